@@ -0,0 +1,90 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.tree.DirectoryTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks rendering a directory tree whose documents are all in a single leaf.
+ * All documents have the same tags, so no tag has any information gain and the root is a leaf containing every
+ * document. If rendering scales linearly in the size of a leaf, the time per operation divided by the size of the
+ * leaf stays the same for every size.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeafRenderingBenchmark {
+    private static final String TEMPORARY_FILE_PREFIX = "leaf";
+    private static final String TEMPORARY_FILE_SUFFIX = ".txt";
+    private static final String LINE_FORMAT = "doc%07d,text,%d,flag0";
+    private static final int NUMBER_OF_ACCESS_NUMBERS = 100;
+
+    /**
+     * The number of documents in the leaf.
+     */
+    @Param({"1000", "10000", "50000"})
+    public int leafSize;
+
+    private DirectoryTree directoryTree;
+
+    /**
+     * Writes a document file whose documents all have the same tags, loads it and generates its directory tree.
+     *
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void generateTree() throws IOException {
+        Path path = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+        try {
+            //the access numbers differ, so the documents of the leaf still have to be ordered
+            try (Writer writer = Files.newBufferedWriter(path, Charset.defaultCharset())) {
+                for (int document = 0; document < leafSize; document++) {
+                    writer.write(LINE_FORMAT.formatted(document, document % NUMBER_OF_ACCESS_NUMBERS + 1));
+                    writer.write(System.lineSeparator());
+                }
+            }
+            FilingFinesse model = new FilingFinesse();
+            new LoadCommand(EchoMode.NONE).execute(model, new String[] {path.toString()});
+            model.generateDirectoryTree(model.getAllDocumentFiles().get(0));
+            directoryTree = model.getDirectoryTree();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Renders the output of the directory tree.
+     *
+     * @return the output of the directory tree
+     */
+    @Benchmark
+    public String getOutput() {
+        return directoryTree.getOutput();
+    }
+}
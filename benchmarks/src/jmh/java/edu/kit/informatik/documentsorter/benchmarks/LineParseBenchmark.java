@@ -0,0 +1,81 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.factory.DocumentFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static edu.kit.informatik.documentsorter.factory.InformationTokenizer.tokenize;
+
+/**
+ * This class benchmarks parsing single lines of a document file to documents, that is splitting a line into its
+ * information and creating the document with its tags, including the inferred ones.
+ * Unlike the load benchmark, neither reading the file nor building the table of the documents is measured.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LineParseBenchmark {
+    private static final long SEED = 42L;
+    private static final int NUMBER_OF_LINES_PER_INVOCATION = 1024;
+    private static final char INFORMATION_SEPARATOR = ',';
+
+    /**
+     * The number of different tags of the generated lines.
+     */
+    @Param({"8", "64"})
+    public int numberOfTags;
+
+    /**
+     * The number of different values of every multivalue and numeric tag.
+     */
+    @Param({"4", "32"})
+    public int numberOfValues;
+
+    private final DocumentFactory documentFactory = new DocumentFactory();
+    private String[] lines;
+
+    /**
+     * Generates the lines to parse.
+     */
+    @Setup(Level.Trial)
+    public void generateLines() {
+        lines = new ManifestGenerator(SEED, NUMBER_OF_LINES_PER_INVOCATION, numberOfTags, numberOfValues, 0)
+                .generate()
+                .split(System.lineSeparator());
+    }
+
+    /**
+     * Parses all generated lines, the time is reported per line.
+     *
+     * @param blackhole the consumer of the created documents
+     * @throws InitialisationException if a line is invalid
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_LINES_PER_INVOCATION)
+    public void parseLine(Blackhole blackhole) throws InitialisationException {
+        for (String line : lines) {
+            blackhole.consume(documentFactory.create(tokenize(line, INFORMATION_SEPARATOR)));
+        }
+    }
+}
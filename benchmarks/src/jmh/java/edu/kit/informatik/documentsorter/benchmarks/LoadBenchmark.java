@@ -0,0 +1,41 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.command.CommandResult;
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks loading a document file, from reading the file to the table of the documents.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadBenchmark {
+
+    /**
+     * Loads the generated document file into a new document sorter.
+     *
+     * @param manifest the generated document file
+     * @return the result of the command
+     */
+    @Benchmark
+    public CommandResult load(ManifestState manifest) {
+        String[] arguments = {manifest.getPath().toString()};
+        return new LoadCommand(EchoMode.NONE).execute(new FilingFinesse(), arguments);
+    }
+}
@@ -0,0 +1,114 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class represents a generated document file which is shared by all iterations of a benchmark.
+ * The file is generated once per trial from a fixed seed and written to a temporary file.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+public class ManifestState {
+    private static final long SEED = 42L;
+    private static final String TEMPORARY_FILE_PREFIX = "manifest";
+    private static final String TEMPORARY_FILE_SUFFIX = ".txt";
+
+    /**
+     * The number of documents of the file.
+     */
+    @Param({"1000", "20000"})
+    public int numberOfDocuments;
+
+    /**
+     * The number of different tags of the file.
+     */
+    @Param({"8", "64"})
+    public int numberOfTags;
+
+    /**
+     * The number of different values of every multivalue and numeric tag.
+     */
+    @Param({"4", "32"})
+    public int numberOfValues;
+
+    /**
+     * The exponent of the Zipf distribution of the access numbers.
+     */
+    @Param({"0.0", "1.2"})
+    public double accessNumberSkew;
+
+    private Path path;
+
+    /**
+     * Generates the document file and writes it to a temporary file.
+     *
+     * @throws IOException if the temporary file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void writeManifest() throws IOException {
+        path = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+        //the file is read with the default charset, just like the files loaded by the user
+        try (Writer writer = Files.newBufferedWriter(path, Charset.defaultCharset())) {
+            createGenerator().write(writer);
+        }
+    }
+
+    /**
+     * Deletes the temporary file.
+     *
+     * @throws IOException if the temporary file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteManifest() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Returns the generator of the document file.
+     *
+     * @return the generator of the document file
+     */
+    public ManifestGenerator createGenerator() {
+        return new ManifestGenerator(SEED, numberOfDocuments, numberOfTags, numberOfValues, accessNumberSkew);
+    }
+
+    /**
+     * Returns the path of the temporary file.
+     *
+     * @return the path of the generated document file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Loads the generated document file.
+     *
+     * @param tableLayout the layout of the table storing the documents
+     * @return the loaded document file
+     */
+    public DocumentFile load(TableLayout tableLayout) {
+        FilingFinesse model = new FilingFinesse();
+        model.setTableLayout(tableLayout);
+        new LoadCommand(EchoMode.NONE).execute(model, new String[] {path.toString()});
+        return model.getAllDocumentFiles().get(0);
+    }
+}
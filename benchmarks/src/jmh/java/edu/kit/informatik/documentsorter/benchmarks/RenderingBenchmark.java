@@ -0,0 +1,58 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import edu.kit.informatik.documentsorter.model.tree.DirectoryTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks rendering the output of a generated directory tree.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderingBenchmark {
+    private DirectoryTree directoryTree;
+
+    /**
+     * Loads the generated document file and generates its directory tree.
+     *
+     * @param manifest the generated document file
+     */
+    @Setup(Level.Trial)
+    public void generateTree(ManifestState manifest) {
+        DocumentFile documentFile = manifest.load(TableLayout.DENSE);
+        FilingFinesse model = new FilingFinesse();
+        model.generateDirectoryTree(documentFile);
+        directoryTree = model.getDirectoryTree();
+    }
+
+    /**
+     * Renders the output of the directory tree.
+     *
+     * @return the output of the directory tree
+     */
+    @Benchmark
+    public String getOutput() {
+        return directoryTree.getOutput();
+    }
+}
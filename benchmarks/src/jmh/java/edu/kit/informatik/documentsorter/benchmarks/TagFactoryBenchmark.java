@@ -0,0 +1,79 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.factory.TagFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class benchmarks creating the tags of the documents from their textual form.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TagFactoryBenchmark {
+    private static final long SEED = 42L;
+    private static final int NUMBER_OF_TAGS_PER_INVOCATION = 1024;
+
+    /**
+     * The number of different tags the created tags are chosen from.
+     */
+    @Param({"8", "64"})
+    public int numberOfTags;
+
+    /**
+     * The number of different values of every multivalue and numeric tag.
+     */
+    @Param({"4", "32"})
+    public int numberOfValues;
+
+    private final TagFactory tagFactory = new TagFactory();
+    private String[][] tags;
+
+    /**
+     * Generates the tags to create.
+     */
+    @Setup(Level.Trial)
+    public void generateTags() {
+        String[] generatedTags = new ManifestGenerator(SEED, 1, numberOfTags, numberOfValues, 0)
+                .generateTags(NUMBER_OF_TAGS_PER_INVOCATION);
+        tags = new String[generatedTags.length][];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new String[] {generatedTags[i]};
+        }
+    }
+
+    /**
+     * Creates all generated tags, the time is reported per tag.
+     *
+     * @param blackhole the consumer of the created tags
+     * @throws InitialisationException if a tag is invalid
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_TAGS_PER_INVOCATION)
+    public void create(Blackhole blackhole) throws InitialisationException {
+        for (String[] tag : tags) {
+            blackhole.consume(tagFactory.create(tag));
+        }
+    }
+}
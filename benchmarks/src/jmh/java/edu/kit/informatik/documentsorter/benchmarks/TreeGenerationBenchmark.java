@@ -0,0 +1,101 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import edu.kit.informatik.documentsorter.model.DocumentTable;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import edu.kit.informatik.documentsorter.model.tree.Path;
+import edu.kit.informatik.documentsorter.model.tree.TreeNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * This class benchmarks generating the whole directory tree of a loaded document file.
+ * This includes the evaluation of the splits of every node and the partitioning of the documents.
+ * With a parallelism greater than one, the subtrees are generated in a fork/join pool, so the speedup is the
+ * time of the parallelism one divided by the time of the greater parallelism.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TreeGenerationBenchmark {
+    private static final String FILE_SEPARATOR = "/";
+    //lower than the default of the program, so the subtrees of the smaller generated files are forked as well
+    private static final int FORK_THRESHOLD = 1000;
+
+    /**
+     * The layout of the table storing the documents.
+     */
+    @Param({"DENSE", "SPARSE"})
+    public TableLayout tableLayout;
+
+    /**
+     * The number of threads generating the tree, one generates it sequentially without a pool.
+     */
+    @Param({"1", "4", "16"})
+    public int parallelism;
+
+    private DocumentTable documentTable;
+    private int[] allTags;
+    private int[] allDocuments;
+    private ForkJoinPool forkJoinPool;
+
+    /**
+     * Loads the generated document file.
+     *
+     * @param manifest the generated document file
+     */
+    @Setup(Level.Trial)
+    public void loadManifest(ManifestState manifest) {
+        documentTable = manifest.load(tableLayout).getDocumentTable();
+        allTags = IntStream.range(0, documentTable.getNumberOfTags()).toArray();
+        allDocuments = IntStream.range(0, documentTable.getNumberOfDocuments()).toArray();
+        forkJoinPool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+    }
+
+    /**
+     * Shuts the pool generating the tree down.
+     */
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Generates the directory tree of the loaded file from scratch.
+     *
+     * @return the root of the generated tree
+     */
+    @Benchmark
+    public TreeNode generateTree() {
+        TreeNode root = new TreeNode(documentTable, allTags, allDocuments.clone(), 0, allDocuments.length,
+                new Path(FILE_SEPARATOR, 0, 0, null));
+        if (forkJoinPool == null) {
+            root.generateTree();
+        } else {
+            root.generateTree(forkJoinPool, FORK_THRESHOLD);
+        }
+        return root;
+    }
+}
@@ -0,0 +1,168 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is the entry point of the generator of synthetic document files.
+ * The options {@code --documents <number>}, {@code --tags <number>}, {@code --values <number>},
+ * {@code --skew <exponent>} and {@code --seed <number>} control the generated file.
+ * The option {@code --types audio:<weight>,image:<weight>,...} sets the mix of the document types and
+ * the option {@code --numeric-maximums image:<maximum>,audio:<maximum>,...} sets the ranges of the numeric tags
+ * from which the inferred tags are derived. The file is written to {@code --output <path>} or to the standard output.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class GeneratorMain {
+    private static final String UTILITY_CLASS_CONSTRUCTOR_MESSAGE = "Utility classes cannot be instantiated";
+    private static final String ERROR_PREFIX = "ERROR: ";
+    private static final String INVALID_OPTION_FORMAT = "invalid option '%s'!";
+    private static final String INVALID_OPTION_VALUE_FORMAT = "invalid value of option '%s'!";
+    private static final String UNWRITABLE_FILE_FORMAT = "file %s could not be written!";
+    private static final String DOCUMENTS_OPTION = "--documents";
+    private static final String TAGS_OPTION = "--tags";
+    private static final String VALUES_OPTION = "--values";
+    private static final String SKEW_OPTION = "--skew";
+    private static final String SEED_OPTION = "--seed";
+    private static final String TYPES_OPTION = "--types";
+    private static final String NUMERIC_MAXIMUMS_OPTION = "--numeric-maximums";
+    private static final String OUTPUT_OPTION = "--output";
+    private static final Set<String> KNOWN_OPTIONS = Set.of(DOCUMENTS_OPTION, TAGS_OPTION, VALUES_OPTION,
+            SKEW_OPTION, SEED_OPTION, TYPES_OPTION, NUMERIC_MAXIMUMS_OPTION, OUTPUT_OPTION);
+    private static final String LIST_SEPARATOR = ",";
+    private static final String ENTRY_SEPARATOR = ":";
+    private static final String DEFAULT_NUMBER_OF_DOCUMENTS = "1000";
+    private static final String DEFAULT_NUMBER_OF_TAGS = "16";
+    private static final String DEFAULT_NUMBER_OF_VALUES = "8";
+    private static final String DEFAULT_SKEW = "1.0";
+    private static final String DEFAULT_SEED = "42";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private GeneratorMain() {
+        throw new UnsupportedOperationException(UTILITY_CLASS_CONSTRUCTOR_MESSAGE);
+    }
+
+    /**
+     * Generates a document file.
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        if (options == null) {
+            return;
+        }
+        ManifestGenerator generator;
+        try {
+            generator = createGenerator(options);
+        } catch (IllegalArgumentException e) {
+            //the message of the exception names the invalid option
+            System.err.println(ERROR_PREFIX + e.getMessage());
+            return;
+        }
+        String output = options.get(OUTPUT_OPTION);
+        try (Writer writer = output == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, Charset.defaultCharset()), BUFFER_SIZE)
+                : Files.newBufferedWriter(Path.of(output), Charset.defaultCharset())) {
+            generator.write(writer);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(ERROR_PREFIX + UNWRITABLE_FILE_FORMAT.formatted(output));
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        //collect the values of the options, every option is followed by its value
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!KNOWN_OPTIONS.contains(args[i]) || i + 1 == args.length) {
+                System.err.println(ERROR_PREFIX + INVALID_OPTION_FORMAT.formatted(args[i]));
+                return null;
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    private static ManifestGenerator createGenerator(Map<String, String> options) {
+        int numberOfDocuments = getInteger(options, DOCUMENTS_OPTION, DEFAULT_NUMBER_OF_DOCUMENTS, 1);
+        int numberOfTags = getInteger(options, TAGS_OPTION, DEFAULT_NUMBER_OF_TAGS, 0);
+        int numberOfValues = getInteger(options, VALUES_OPTION, DEFAULT_NUMBER_OF_VALUES, 1);
+        double skew;
+        try {
+            skew = Double.parseDouble(options.getOrDefault(SKEW_OPTION, DEFAULT_SKEW));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(SKEW_OPTION));
+        }
+        if (!(skew >= 0)) { //also rejects NaN
+            throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(SKEW_OPTION));
+        }
+        long seed;
+        try {
+            seed = Long.parseLong(options.getOrDefault(SEED_OPTION, DEFAULT_SEED));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(SEED_OPTION));
+        }
+        ManifestGenerator generator = new ManifestGenerator(seed, numberOfDocuments, numberOfTags, numberOfValues,
+                skew);
+        //the types which are not part of the option keep their default weight of one
+        Map<String, Integer> weights = parseEntries(options, TYPES_OPTION);
+        int sumOfWeights = 0;
+        for (String documentType : ManifestGenerator.DOCUMENT_TYPES) {
+            int weight = weights.getOrDefault(documentType, 1);
+            generator.setWeightOfType(documentType, weight);
+            sumOfWeights += weight;
+        }
+        if (sumOfWeights == 0) {
+            throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(TYPES_OPTION));
+        }
+        for (Map.Entry<String, Integer> maximum : parseEntries(options, NUMERIC_MAXIMUMS_OPTION).entrySet()) {
+            generator.setMaximumOfNumericTag(maximum.getKey(), maximum.getValue());
+        }
+        return generator;
+    }
+
+    private static int getInteger(Map<String, String> options, String option, String defaultValue, int minimum) {
+        int value;
+        try {
+            value = Integer.parseInt(options.getOrDefault(option, defaultValue));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(option));
+        }
+        if (value < minimum) {
+            throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(option));
+        }
+        return value;
+    }
+
+    private static Map<String, Integer> parseEntries(Map<String, String> options, String option) {
+        //a list of document types with a non-negative number each, for example "audio:1,image:2"
+        Map<String, Integer> entries = new HashMap<>();
+        if (!options.containsKey(option)) {
+            return entries;
+        }
+        for (String entry : options.get(option).split(LIST_SEPARATOR)) {
+            String[] typeAndNumber = entry.split(ENTRY_SEPARATOR);
+            int number;
+            try {
+                number = typeAndNumber.length == 2 ? Integer.parseInt(typeAndNumber[1]) : -1;
+            } catch (NumberFormatException e) {
+                number = -1;
+            }
+            if (number < 0 || !Set.of(ManifestGenerator.DOCUMENT_TYPES).contains(typeAndNumber[0])) {
+                throw new IllegalArgumentException(INVALID_OPTION_VALUE_FORMAT.formatted(option));
+            }
+            entries.put(typeAndNumber[0], number);
+        }
+        return entries;
+    }
+}
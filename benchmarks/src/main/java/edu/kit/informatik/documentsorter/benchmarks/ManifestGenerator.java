@@ -0,0 +1,211 @@
+package edu.kit.informatik.documentsorter.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * This class generates synthetic document files in the format which is accepted by the command {@code load}.
+ * Every line describes one document with its name, type, access number and tags. The generated files are
+ * determined by the seed, so the same parameters always produce the same file.
+ * The tags of the schema alternate between binary, multivalue and numeric tags, every tag is set for a document
+ * with a probability of one half. Besides, documents of the types image, audio, video and text set the numeric tag
+ * from which their inferred length or size is derived, and documents of the types audio, video and text set
+ * the tag {@code genre}. The access numbers follow a Zipf distribution, the greater the skew the more the accesses
+ * concentrate on few documents. A skew of zero gives every document the same access number.
+ * The lines are generated one after the other, so files with tens of millions of documents can be written
+ * without holding them in memory.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class ManifestGenerator {
+    /**
+     * The names of the document types in the order of their weights and the maximums of their numeric tags.
+     */
+    public static final String[] DOCUMENT_TYPES = {"audio", "image", "program", "text", "video"};
+    private static final String[] NUMERIC_TAGS_OF_TYPES = {"length", "size", null, "words", "length"};
+    private static final boolean[] GENRE_OF_TYPES = {true, false, false, true, true};
+    private static final int[] DEFAULT_MAXIMUMS_OF_NUMERIC_TAGS = {600, 100000, 0, 2000, 10000};
+    private static final String DOCUMENT_NAME_PREFIX = "doc";
+    private static final String BINARY_TAG_PREFIX = "flag";
+    private static final String MULTIVALUE_TAG_PREFIX = "tag";
+    private static final String NUMERIC_TAG_PREFIX = "num";
+    private static final String MULTIVALUE_PREFIX = "v";
+    private static final String GENRE_TAG_PREFIX = "genre=g";
+    private static final String UNKNOWN_DOCUMENT_TYPE_FORMAT = "unknown document type '%s'";
+    private static final char SEPARATOR = ',';
+    private static final char ASSIGNMENT = '=';
+    private static final char PADDING = '0';
+    private static final int MINIMUM_DIGITS_OF_NAME = 7;
+    private static final int NUMBER_OF_TAG_KINDS = 3;
+    private static final int BINARY_TAG = 0;
+    private static final int MULTIVALUE_TAG = 1;
+    private static final int NUMBER_OF_GENRES = 4;
+    private static final double PROBABILITY_OF_TAG = 0.5d;
+    private static final double MAXIMUM_ACCESS_NUMBER = 1000d;
+    private final long seed;
+    private final int numberOfDocuments;
+    private final int numberOfTags;
+    private final int numberOfValues;
+    private final double accessNumberSkew;
+    private final int[] weightsOfTypes;
+    private final int[] maximumsOfNumericTags;
+
+    /**
+     * Constructs a new generator of document files.
+     * All document types are equally likely and the numeric tags of the types cover all of their inferred values.
+     *
+     * @param seed the seed of the random numbers
+     * @param numberOfDocuments the number of documents of a file
+     * @param numberOfTags the number of different tags of the schema of a file
+     * @param numberOfValues the number of different values of every multivalue and numeric tag of the schema
+     * @param accessNumberSkew the exponent of the Zipf distribution of the access numbers
+     */
+    public ManifestGenerator(long seed, int numberOfDocuments, int numberOfTags, int numberOfValues,
+                             double accessNumberSkew) {
+        this.seed = seed;
+        this.numberOfDocuments = numberOfDocuments;
+        this.numberOfTags = numberOfTags;
+        this.numberOfValues = numberOfValues;
+        this.accessNumberSkew = accessNumberSkew;
+        this.weightsOfTypes = new int[DOCUMENT_TYPES.length];
+        Arrays.fill(weightsOfTypes, 1);
+        this.maximumsOfNumericTags = DEFAULT_MAXIMUMS_OF_NUMERIC_TAGS.clone();
+    }
+
+    /**
+     * Sets the weight of a document type, the probability of a type is its weight relative to the sum of all weights.
+     *
+     * @param documentType the name of the document type
+     * @param weight the weight of the type
+     */
+    public void setWeightOfType(String documentType, int weight) {
+        weightsOfTypes[getIndexOfType(documentType)] = weight;
+    }
+
+    /**
+     * Sets the maximum of the numeric tag from which the length or size of a document type is inferred.
+     * The values of the tag are distributed uniformly from zero to the maximum (exclusive).
+     * The type program has no such tag.
+     *
+     * @param documentType the name of the document type
+     * @param maximum the maximum of the numeric tag
+     */
+    public void setMaximumOfNumericTag(String documentType, int maximum) {
+        maximumsOfNumericTags[getIndexOfType(documentType)] = maximum;
+    }
+
+    /**
+     * Writes the generated document file to the specified output.
+     *
+     * @param output the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void write(Appendable output) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        int sumOfWeights = Arrays.stream(weightsOfTypes).sum();
+        int digitsOfName = Math.max(MINIMUM_DIGITS_OF_NAME, Integer.toString(numberOfDocuments - 1).length());
+        StringBuilder line = new StringBuilder();
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            line.setLength(0);
+            appendName(line, ordinal, digitsOfName);
+            int type = nextType(random, sumOfWeights);
+            line.append(SEPARATOR).append(DOCUMENT_TYPES[type])
+                    .append(SEPARATOR).append(nextAccessNumber(random));
+            for (int tag = 0; tag < numberOfTags; tag++) {
+                if (random.nextDouble() < PROBABILITY_OF_TAG) {
+                    appendTag(line.append(SEPARATOR), tag, random.nextInt(numberOfValues));
+                }
+            }
+            //the tags from which the inferred tags of the type are derived
+            if (NUMERIC_TAGS_OF_TYPES[type] != null && maximumsOfNumericTags[type] > 0
+                    && random.nextDouble() < PROBABILITY_OF_TAG) {
+                line.append(SEPARATOR).append(NUMERIC_TAGS_OF_TYPES[type])
+                        .append(ASSIGNMENT).append(random.nextInt(maximumsOfNumericTags[type]));
+            }
+            if (GENRE_OF_TYPES[type] && random.nextDouble() < PROBABILITY_OF_TAG) {
+                line.append(SEPARATOR).append(GENRE_TAG_PREFIX).append(random.nextInt(NUMBER_OF_GENRES));
+            }
+            output.append(line).append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Returns the generated document file.
+     *
+     * @return the content of the document file
+     */
+    public String generate() {
+        StringBuilder output = new StringBuilder();
+        try {
+            write(output);
+        } catch (IOException e) {
+            //appending to a string builder does not throw an exception
+            throw new IllegalStateException(e);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Returns generated tags of the schema, one tag after the other.
+     * The tags are in the format in which they are part of a document file.
+     *
+     * @param numberOfGeneratedTags the number of tags to generate
+     * @return the generated tags
+     */
+    public String[] generateTags(int numberOfGeneratedTags) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] tags = new String[numberOfGeneratedTags];
+        StringBuilder tag = new StringBuilder();
+        for (int i = 0; i < tags.length; i++) {
+            tag.setLength(0);
+            appendTag(tag, random.nextInt(numberOfTags), random.nextInt(numberOfValues));
+            tags[i] = tag.toString();
+        }
+        return tags;
+    }
+
+    private static int getIndexOfType(String documentType) {
+        for (int type = 0; type < DOCUMENT_TYPES.length; type++) {
+            if (DOCUMENT_TYPES[type].equals(documentType)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(UNKNOWN_DOCUMENT_TYPE_FORMAT.formatted(documentType));
+    }
+
+    private static void appendName(StringBuilder line, int ordinal, int digitsOfName) {
+        String digits = Integer.toString(ordinal);
+        line.append(DOCUMENT_NAME_PREFIX);
+        for (int i = digits.length(); i < digitsOfName; i++) {
+            line.append(PADDING);
+        }
+        line.append(digits);
+    }
+
+    private static void appendTag(StringBuilder line, int tag, int value) {
+        switch (tag % NUMBER_OF_TAG_KINDS) {
+            case BINARY_TAG -> line.append(BINARY_TAG_PREFIX).append(tag);
+            case MULTIVALUE_TAG -> line.append(MULTIVALUE_TAG_PREFIX).append(tag)
+                    .append(ASSIGNMENT).append(MULTIVALUE_PREFIX).append(value);
+            default -> line.append(NUMERIC_TAG_PREFIX).append(tag).append(ASSIGNMENT).append(value);
+        }
+    }
+
+    private int nextType(SplittableRandom random, int sumOfWeights) {
+        int remainingWeight = random.nextInt(sumOfWeights);
+        int type = 0;
+        while (remainingWeight >= weightsOfTypes[type]) {
+            remainingWeight -= weightsOfTypes[type];
+            type++;
+        }
+        return type;
+    }
+
+    private int nextAccessNumber(SplittableRandom random) {
+        //the access number of a document of a random rank in a Zipf distribution
+        int rank = random.nextInt(numberOfDocuments) + 1;
+        return (int) Math.ceil(MAXIMUM_ACCESS_NUMBER / Math.pow(rank, accessNumberSkew));
+    }
+}
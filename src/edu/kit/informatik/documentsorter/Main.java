@@ -1,7 +1,22 @@
 package edu.kit.informatik.documentsorter;
 
 import edu.kit.informatik.documentsorter.command.CommandHandler;
+import edu.kit.informatik.documentsorter.command.EchoMode;
 import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * This class is the entry point of the program.
@@ -12,24 +27,178 @@ import edu.kit.informatik.documentsorter.model.FilingFinesse;
  */
 public final class Main {
     private static final String UTILITY_CLASS_CONSTRUCTOR_MESSAGE = "Utility classes cannot be instantiated";
-    private static final String WELCOME_TEXT = "Use one of the following commands: load <path>, run <id>, "
-            + "change <id> <file> <number>, quit";
+    private static final String WELCOME_TEXT = "Use one of the following commands: load <path>, "
+            + "run <id> [--limit <number>], change <id> <file> <number>, locate <id> <file>, save <id> <path>, "
+            + "load-snapshot <path>, stats, quit";
+    private static final String ERROR_PREFIX = "ERROR: ";
+    private static final String INVALID_OPTION_FORMAT = "invalid option '%s'!";
+    private static final String INVALID_OPTION_VALUE_FORMAT = "the value of option '%s' must be a positive integer!";
+    private static final String INVALID_ECHO_MODE_FORMAT = "the value of option '%s' must be full, summary or none!";
+    private static final String INVALID_TABLE_LAYOUT_FORMAT = "the value of option '%s' must be dense, sparse "
+            + "or mapped!";
+    private static final String INVALID_METRICS_FORMAT = "the value of option '%s' must be on or off!";
+    private static final String UNWRITABLE_METRICS_FILE_FORMAT = "the metrics file '%s' cannot be written!";
+    private static final String METRICS_ON = "on";
+    private static final String METRICS_OFF = "off";
+    private static final String PARALLELISM_OPTION = "--parallelism";
+    private static final String FORK_THRESHOLD_OPTION = "--fork-threshold";
+    private static final String PARALLEL_EVALUATION_THRESHOLD_OPTION = "--parallel-evaluation-threshold";
+    private static final String CACHE_SIZE_OPTION = "--cache-size";
+    private static final String OUTPUT_CACHE_LIMIT_OPTION = "--output-cache-limit";
+    private static final String ECHO_OPTION = "--echo";
+    private static final String LOAD_CHUNK_SIZE_OPTION = "--load-chunk-size";
+    private static final String TABLE_LAYOUT_OPTION = "--table-layout";
+    private static final String METRICS_OPTION = "--metrics";
+    private static final String METRICS_FILE_OPTION = "--metrics-file";
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_FORK_THRESHOLD = 10000;
+    private static final int DEFAULT_PARALLEL_EVALUATION_THRESHOLD = 50000;
+    private static final int DEFAULT_CACHE_SIZE = 16;
+    private static final int DEFAULT_OUTPUT_CACHE_LIMIT = 100000;
+    private static final int DEFAULT_LOAD_CHUNK_SIZE = 1 << 23;
+    private static final Set<String> KNOWN_OPTIONS = Set.of(PARALLELISM_OPTION, FORK_THRESHOLD_OPTION,
+            PARALLEL_EVALUATION_THRESHOLD_OPTION, CACHE_SIZE_OPTION, OUTPUT_CACHE_LIMIT_OPTION, ECHO_OPTION,
+            LOAD_CHUNK_SIZE_OPTION, TABLE_LAYOUT_OPTION, METRICS_OPTION, METRICS_FILE_OPTION);
     private Main() {
         throw new UnsupportedOperationException(UTILITY_CLASS_CONSTRUCTOR_MESSAGE);
     }
     /**
      * Starts the program.
+     * The options {@code --parallelism <threads>}, {@code --fork-threshold <documents>} and
+     * {@code --parallel-evaluation-threshold <documents>} control how many threads generate the directory trees.
+     * The tags of a node are only evaluated in parallel with the dense table layout.
+     * The option {@code --cache-size <files>} limits the number of files whose directory trees are cached.
+     * The option {@code --output-cache-limit <documents>} limits the size of the files whose output is cached.
+     * The option {@code --echo full|summary|none} controls how much of a loaded file is printed.
+     * With a parallelism greater than one, files larger than {@code --load-chunk-size <bytes>} are parsed in parallel.
+     * The option {@code --table-layout dense|sparse|mapped} controls whether tags which have not been set for
+     * a document are stored explicitly and whether the documents of snapshots stay in the mapped snapshot.
+     * The option {@code --metrics on|off} controls whether the phases of the commands are measured, the option
+     * {@code --metrics-file <path>} measures them as well and appends the statistics of every command to the file.
      *
      * @param args the command line arguments
      */
     public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        if (options == null) {
+            return;
+        }
         //Initialise the file system
         FilingFinesse filingFinesse = new FilingFinesse();
+        EchoMode echoMode = getEchoMode(options);
+        TableLayout tableLayout = getTableLayout(options);
+        if (echoMode == null || tableLayout == null || !applyOptions(filingFinesse, options)
+                || !applyMetricsOption(options)) {
+            return;
+        }
+        filingFinesse.setTableLayout(tableLayout);
+        Writer metricsOutput = null;
+        if (options.containsKey(METRICS_FILE_OPTION)) {
+            metricsOutput = openMetricsFile(options.get(METRICS_FILE_OPTION));
+            if (metricsOutput == null) {
+                return;
+            }
+            PhaseMetrics.setEnabled(true);
+        }
         //Start interaction with the user
-        CommandHandler commandHandler = new CommandHandler(filingFinesse);
+        CommandHandler commandHandler = new CommandHandler(filingFinesse, echoMode, metricsOutput);
         System.out.println(WELCOME_TEXT);
         commandHandler.handleUserInput();
     }
 
+    private static Map<String, String> parseOptions(String[] args) {
+        //collect the values of the options, every option is followed by its value
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!KNOWN_OPTIONS.contains(args[i]) || i + 1 == args.length) {
+                System.err.println(ERROR_PREFIX + INVALID_OPTION_FORMAT.formatted(args[i]));
+                return null;
+            }
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+
+    private static EchoMode getEchoMode(Map<String, String> options) {
+        if (!options.containsKey(ECHO_OPTION)) {
+            return EchoMode.FULL;
+        }
+        try {
+            return EchoMode.valueOf(options.get(ECHO_OPTION).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(ERROR_PREFIX + INVALID_ECHO_MODE_FORMAT.formatted(ECHO_OPTION));
+            return null;
+        }
+    }
 
+    private static TableLayout getTableLayout(Map<String, String> options) {
+        if (!options.containsKey(TABLE_LAYOUT_OPTION)) {
+            return TableLayout.DENSE;
+        }
+        try {
+            return TableLayout.valueOf(options.get(TABLE_LAYOUT_OPTION).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(ERROR_PREFIX + INVALID_TABLE_LAYOUT_FORMAT.formatted(TABLE_LAYOUT_OPTION));
+            return null;
+        }
+    }
+
+    private static boolean applyMetricsOption(Map<String, String> options) {
+        if (!options.containsKey(METRICS_OPTION)) {
+            return true;
+        }
+        String value = options.get(METRICS_OPTION).toLowerCase(Locale.ROOT);
+        if (!value.equals(METRICS_ON) && !value.equals(METRICS_OFF)) {
+            System.err.println(ERROR_PREFIX + INVALID_METRICS_FORMAT.formatted(METRICS_OPTION));
+            return false;
+        }
+        PhaseMetrics.setEnabled(value.equals(METRICS_ON));
+        return true;
+    }
+
+    private static Writer openMetricsFile(String fileName) {
+        //the statistics are appended, so the metrics of several runs can be collected in one file
+        try {
+            return Files.newBufferedWriter(Path.of(fileName), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(ERROR_PREFIX + UNWRITABLE_METRICS_FILE_FORMAT.formatted(fileName));
+            return null;
+        }
+    }
+
+    private static boolean applyOptions(FilingFinesse filingFinesse, Map<String, String> options) {
+        int parallelism = getPositiveInteger(options, PARALLELISM_OPTION, DEFAULT_PARALLELISM);
+        int forkThreshold = getPositiveInteger(options, FORK_THRESHOLD_OPTION, DEFAULT_FORK_THRESHOLD);
+        int parallelEvaluationThreshold = getPositiveInteger(options, PARALLEL_EVALUATION_THRESHOLD_OPTION,
+                DEFAULT_PARALLEL_EVALUATION_THRESHOLD);
+        int cacheSize = getPositiveInteger(options, CACHE_SIZE_OPTION, DEFAULT_CACHE_SIZE);
+        int outputCacheLimit = getPositiveInteger(options, OUTPUT_CACHE_LIMIT_OPTION, DEFAULT_OUTPUT_CACHE_LIMIT);
+        int loadChunkSize = getPositiveInteger(options, LOAD_CHUNK_SIZE_OPTION, DEFAULT_LOAD_CHUNK_SIZE);
+        if (parallelism <= 0 || forkThreshold <= 0 || parallelEvaluationThreshold <= 0 || cacheSize <= 0
+                || outputCacheLimit <= 0 || loadChunkSize <= 0) {
+            return false;
+        }
+        filingFinesse.setParallelism(parallelism, forkThreshold, parallelEvaluationThreshold);
+        filingFinesse.setCacheSize(cacheSize);
+        filingFinesse.setOutputCacheLimit(outputCacheLimit);
+        filingFinesse.setLoadChunkSize(loadChunkSize);
+        return true;
+    }
+
+    private static int getPositiveInteger(Map<String, String> options, String option, int defaultValue) {
+        if (!options.containsKey(option)) {
+            return defaultValue;
+        }
+        int value;
+        try {
+            value = Integer.parseInt(options.get(option));
+        } catch (NumberFormatException e) {
+            value = 0;
+        }
+        if (value <= 0) {
+            System.err.println(ERROR_PREFIX + INVALID_OPTION_VALUE_FORMAT.formatted(option));
+        }
+        return value;
+    }
 }
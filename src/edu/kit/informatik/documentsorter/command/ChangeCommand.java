@@ -1,6 +1,7 @@
 package edu.kit.informatik.documentsorter.command;
 
 import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.DocumentTable;
 import edu.kit.informatik.documentsorter.model.FilingFinesse;
 
 import static edu.kit.informatik.documentsorter.factory.DocumentFactory.INVALID_ACCESS_NUMBER_MESSAGE;
@@ -21,8 +22,12 @@ public final class ChangeCommand implements Command {
      * Package-private because it is used in {@link RunCommand}.
      */
     static final String INVALID_IDENTIFIER_MESSAGE = "The file with the specified id does not exist.";
+    /**
+     * The error message for the case that there is no document with the specified name.
+     * Package-private because it is used in {@link LocateCommand}.
+     */
+    static final String INVALID_DOCUMENT_NAME_MESSAGE = "The document with the specified name does not exist in the file.";
     private static final int NUMBER_OF_ARGUMENTS = 3;
-    private static final String INVALID_DOCUMENT_NAME_MESSAGE = "The document with the specified name does not exist in the file.";
     private static final String SUCCESS_MESSAGE_FORMAT = "Change %d to %d for %s";
     @Override
     public CommandResult execute(FilingFinesse model, String[] commandArguments) {
@@ -40,19 +45,18 @@ public final class ChangeCommand implements Command {
             return new CommandResult(CommandResultType.FAILURE, INVALID_IDENTIFIER_MESSAGE);
         }
         DocumentFile currentFile = model.getAllDocumentFiles().get(identifier);
+        DocumentTable documentTable = currentFile.getDocumentTable();
         //check if the document exists in the file
-        if (currentFile.getDocuments().stream().noneMatch(document -> document.getName().equals(commandArguments[1]))) {
+        int ordinal = documentTable.getOrdinal(commandArguments[1]);
+        if (ordinal < 0) {
             return new CommandResult(CommandResultType.FAILURE, INVALID_DOCUMENT_NAME_MESSAGE);
         }
         if (accessNumber < 0) {
             return new CommandResult(CommandResultType.FAILURE, INVALID_ACCESS_NUMBER_MESSAGE);
         }
-        //get the index of the referenced document
-        int index = currentFile.getDocuments().indexOf(currentFile.getDocuments().stream()
-                .filter(document -> document.getName().equals(commandArguments[1])).findFirst().get());
-        int oldAccessNumber = currentFile.getDocuments().get(index).getAccessNumber();
+        int oldAccessNumber = documentTable.getAccessNumber(ordinal);
         //change the access number of the document
-        currentFile.getDocuments().get(index).setAccessNumber(accessNumber);
+        model.changeAccessNumber(currentFile, ordinal, accessNumber);
         return new CommandResult(CommandResultType.SUCCESS, String.format(SUCCESS_MESSAGE_FORMAT,
                 oldAccessNumber, accessNumber, commandArguments[1]));
     }
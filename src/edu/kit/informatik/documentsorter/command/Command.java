@@ -25,4 +25,15 @@ public interface Command {
      * @return the number of arguments that the command expects
      */
     int getNumberOfArguments();
+
+    /**
+     * Returns whether the command can be executed with the specified number of arguments.
+     * By default the command expects exactly the number of arguments returned by {@link #getNumberOfArguments()}.
+     *
+     * @param numberOfArguments the number of given arguments
+     * @return whether the command accepts the number of arguments
+     */
+    default boolean acceptsNumberOfArguments(int numberOfArguments) {
+        return numberOfArguments == getNumberOfArguments();
+    }
 }
@@ -1,9 +1,17 @@
 package edu.kit.informatik.documentsorter.command;
 
 import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.metrics.Phase;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseStatistics;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
@@ -21,13 +29,24 @@ public class CommandHandler {
     private static final String QUIT_COMMAND_NAME = "quit";
     private static final String CHANGE_COMMAND_NAME = "change";
     private static final String LOAD_COMMAND_NAME = "load";
+    private static final String SAVE_COMMAND_NAME = "save";
+    private static final String LOAD_SNAPSHOT_COMMAND_NAME = "load-snapshot";
+    private static final String LOCATE_COMMAND_NAME = "locate";
+    private static final String STATS_COMMAND_NAME = "stats";
     private static final String COMMAND_SEPARATOR_REGEX = " +";
     private static final String ERROR_PREFIX = "ERROR: ";
     private static final String COMMAND_NOT_FOUND_FORMAT = "command '%s' not found!";
     private static final String WRONG_ARGUMENTS_COUNT_FORMAT = "wrong number of arguments for command '%s'!";
+    private static final String UNWRITABLE_OUTPUT_MESSAGE = "the output could not be written!";
     private static final String INVALID_RESULT_TYPE_FORMAT = "Unexpected value: %s";
+    private static final String METRICS_LINE_FORMAT = "{\"command\":\"%s\",\"phases\":[%s]}";
+    private static final String METRICS_SEPARATOR = ",";
     private final FilingFinesse filingFinesse;
     private final Map<String, Command> commands;
+    private final Writer output;
+    private final Writer metricsOutput;
+    private String nameOfLastMeasuredCommand;
+    private List<PhaseStatistics> statisticsOfLastMeasuredCommand;
     private boolean running = false;
     /**
      * Constructs a new CommandHandler.
@@ -35,9 +54,32 @@ public class CommandHandler {
      * @param filingFinesse the file system that this instance manages
      */
     public CommandHandler(FilingFinesse filingFinesse) {
+        this(filingFinesse, EchoMode.FULL);
+    }
+    /**
+     * Constructs a new CommandHandler.
+     *
+     * @param filingFinesse the file system that this instance manages
+     * @param echoMode how much of a loaded file is printed after loading it
+     */
+    public CommandHandler(FilingFinesse filingFinesse, EchoMode echoMode) {
+        this(filingFinesse, echoMode, null);
+    }
+    /**
+     * Constructs a new CommandHandler.
+     * If the phases of the commands are measured and a metrics output is specified, the statistics of every
+     * command except {@code stats} are written to it as one line of JSON.
+     *
+     * @param filingFinesse the file system that this instance manages
+     * @param echoMode how much of a loaded file is printed after loading it
+     * @param metricsOutput the output to write the statistics of the commands to or {@code null}
+     */
+    public CommandHandler(FilingFinesse filingFinesse, EchoMode echoMode, Writer metricsOutput) {
         this.filingFinesse = Objects.requireNonNull(filingFinesse);
         this.commands = new HashMap<>();
-        this.initCommands();
+        this.output = new BufferedWriter(new OutputStreamWriter(System.out));
+        this.metricsOutput = metricsOutput;
+        this.initCommands(Objects.requireNonNull(echoMode));
     }
     /**
      * Starts the interaction with the user.
@@ -67,27 +109,84 @@ public class CommandHandler {
     private void executeCommand(String commandName, String[] commandArguments) {
         if (!commands.containsKey(commandName)) {
             System.err.println(ERROR_PREFIX + COMMAND_NOT_FOUND_FORMAT.formatted(commandName));
-        } else if (commands.get(commandName).getNumberOfArguments() != commandArguments.length) {
+        } else if (!commands.get(commandName).acceptsNumberOfArguments(commandArguments.length)) {
             System.err.println(ERROR_PREFIX + WRONG_ARGUMENTS_COUNT_FORMAT.formatted(commandName));
         } else {
+            //the stats command only prints the statistics of the previous command and is not measured itself
+            boolean measured = PhaseMetrics.isEnabled() && !commandName.equals(STATS_COMMAND_NAME);
+            PhaseMetrics.Measurement measurement = measured ? PhaseMetrics.start() : null;
             CommandResult result = commands.get(commandName).execute(filingFinesse, commandArguments);
-            String output = switch (result.getType()) {
-                case SUCCESS -> result.getMessage();
-                case FAILURE -> ERROR_PREFIX + result.getMessage();
-            };
-            if (output != null) {
-                switch (result.getType()) {
-                    case SUCCESS -> System.out.println(output);
-                    case FAILURE -> System.err.println(output);
-                    default -> throw new IllegalStateException(INVALID_RESULT_TYPE_FORMAT.formatted(result.getType()));
-                }
+            switch (result.getType()) {
+                case SUCCESS -> printMessage(result);
+                case FAILURE -> System.err.println(ERROR_PREFIX + result.getMessage());
+                default -> throw new IllegalStateException(INVALID_RESULT_TYPE_FORMAT.formatted(result.getType()));
             }
+            if (measured) {
+                PhaseMetrics.stop(measurement, Phase.COMMAND);
+                recordStatistics(commandName, PhaseMetrics.collect());
+            }
+        }
+    }
+    private void recordStatistics(String commandName, List<PhaseStatistics> statistics) {
+        nameOfLastMeasuredCommand = commandName;
+        statisticsOfLastMeasuredCommand = statistics;
+        if (metricsOutput == null) {
+            return;
+        }
+        StringBuilder phases = new StringBuilder();
+        for (PhaseStatistics statisticsOfPhase : statistics) {
+            if (!phases.isEmpty()) {
+                phases.append(METRICS_SEPARATOR);
+            }
+            phases.append(statisticsOfPhase.toJson());
+        }
+        try {
+            metricsOutput.write(METRICS_LINE_FORMAT.formatted(commandName, phases));
+            metricsOutput.write(System.lineSeparator());
+            metricsOutput.flush();
+        } catch (IOException e) {
+            System.err.println(ERROR_PREFIX + e.getMessage());
+        }
+    }
+    /**
+     * Returns the name of the last command whose phases have been measured.
+     * Package-private because it is used in {@link StatsCommand}.
+     *
+     * @return the name of the last measured command or {@code null} if no command has been measured
+     */
+    String getNameOfLastMeasuredCommand() {
+        return nameOfLastMeasuredCommand;
+    }
+    /**
+     * Returns the statistics of the phases of the last measured command.
+     * Package-private because it is used in {@link StatsCommand}.
+     *
+     * @return the statistics of the last measured command or {@code null} if no command has been measured
+     */
+    List<PhaseStatistics> getStatisticsOfLastMeasuredCommand() {
+        return statisticsOfLastMeasuredCommand;
+    }
+    private void printMessage(CommandResult result) {
+        if (!result.hasMessage()) {
+            return;
+        }
+        //the message is streamed to the standard output, so large messages are never built as one string
+        try {
+            result.writeMessage(output);
+            output.write(System.lineSeparator());
+            output.flush();
+        } catch (IOException e) {
+            System.err.println(ERROR_PREFIX + UNWRITABLE_OUTPUT_MESSAGE);
         }
     }
-    private void initCommands() {
-        addCommand(LOAD_COMMAND_NAME, new LoadCommand());
+    private void initCommands(EchoMode echoMode) {
+        addCommand(LOAD_COMMAND_NAME, new LoadCommand(echoMode));
         addCommand(CHANGE_COMMAND_NAME, new ChangeCommand());
         addCommand(RUN_COMMAND_NAME, new RunCommand());
+        addCommand(LOCATE_COMMAND_NAME, new LocateCommand());
+        addCommand(SAVE_COMMAND_NAME, new SaveCommand());
+        addCommand(LOAD_SNAPSHOT_COMMAND_NAME, new LoadSnapshotCommand());
+        addCommand(STATS_COMMAND_NAME, new StatsCommand(this));
         addCommand(QUIT_COMMAND_NAME, new QuitCommand(this));
     }
 
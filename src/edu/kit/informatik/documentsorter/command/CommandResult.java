@@ -1,4 +1,7 @@
 package edu.kit.informatik.documentsorter.command;
+
+import java.io.IOException;
+
 /**
  * This class represents the result of a command. It contains a message and a type. The type indicates whether the
  * command was successful or not. The message contains additional information about the result.
@@ -34,6 +37,25 @@ public class CommandResult {
         return message;
     }
 
+    /**
+     * Returns whether the result has a message.
+     *
+     * @return {@code true} if the result has a message, {@code false} otherwise
+     */
+    public boolean hasMessage() {
+        return message != null;
+    }
+
+    /**
+     * Writes the message of the result to the specified output.
+     *
+     * @param output the output to write the message to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeMessage(Appendable output) throws IOException {
+        output.append(message);
+    }
+
     /**
      * Returns the type of the result.
      *
@@ -0,0 +1,110 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.factory.DocumentFactory;
+import edu.kit.informatik.documentsorter.model.document.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static edu.kit.informatik.documentsorter.factory.InformationTokenizer.tokenize;
+
+/**
+ * This class represents a consecutive part of the lines of a document file together with the documents
+ * parsed from them and the schema of their tags.
+ * A chunk stops parsing at its first invalid line, since the first invalid line of a file is reported.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class DocumentFileChunk {
+    private static final char INFORMATION_SEPARATOR = ',';
+    private final DocumentFactory documentFactory;
+    private final List<Document> documents;
+    private final TagSchema tagSchema;
+    private String errorMessage;
+    private String schemaErrorMessage;
+
+    /**
+     * Constructs a new empty chunk.
+     */
+    public DocumentFileChunk() {
+        this.documentFactory = new DocumentFactory();
+        this.documents = new ArrayList<>();
+        this.tagSchema = new TagSchema();
+    }
+
+    /**
+     * Parses the specified line to a document and adds its tags to the schema of the chunk.
+     * Nothing happens if the chunk already contains an invalid line.
+     *
+     * @param line the line to parse
+     */
+    public void parseLine(String line) {
+        if (errorMessage != null) {
+            return;
+        }
+        Document document;
+        try {
+            document = documentFactory.create(tokenize(line, INFORMATION_SEPARATOR));
+        } catch (InitialisationException e) {
+            errorMessage = e.getMessage();
+            return;
+        }
+        documents.add(document);
+        //an invalid line is reported before an ambiguous tag, so the remaining lines still have to be parsed
+        if (schemaErrorMessage == null) {
+            try {
+                tagSchema.addTagsOf(document);
+            } catch (InitialisationException e) {
+                schemaErrorMessage = e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the chunk contains an invalid line.
+     *
+     * @return {@code true} if a line of the chunk is invalid, {@code false} otherwise
+     */
+    public boolean hasInvalidLine() {
+        return errorMessage != null;
+    }
+
+    /**
+     * Returns the error message of the first invalid line of the chunk.
+     *
+     * @return the error message or {@code null} if all lines are valid
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Returns the error message of the first tag of the chunk which is defined with different tag types.
+     *
+     * @return the error message or {@code null} if all tags are unambiguous
+     */
+    public String getSchemaErrorMessage() {
+        return schemaErrorMessage;
+    }
+
+    /**
+     * Returns the documents parsed from the lines of the chunk.
+     *
+     * @return the documents of the chunk
+     */
+    public List<Document> getDocuments() {
+        return Collections.unmodifiableList(documents);
+    }
+
+    /**
+     * Returns the schema of the tags of the documents of the chunk.
+     *
+     * @return the tag schema of the chunk
+     */
+    public TagSchema getTagSchema() {
+        return tagSchema;
+    }
+}
@@ -0,0 +1,180 @@
+package edu.kit.informatik.documentsorter.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This class reads the lines of a document file and parses them to documents.
+ * Large files can be parsed in parallel: the file is split into chunks of bytes which end at line boundaries,
+ * every chunk is parsed by a task of a fork/join pool, and the chunks are returned in the order of the file.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class DocumentFileReader {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int SCAN_BUFFER_SIZE = 1 << 12;
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    //in these charsets the bytes of line breaks never occur inside of other characters
+    private static final Set<Charset> ASCII_COMPATIBLE_CHARSETS = Set.of(StandardCharsets.UTF_8,
+            StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1);
+    private final Path path;
+    private final Charset charset;
+
+    /**
+     * Constructs a new reader of the specified document file using the default charset.
+     *
+     * @param path the path of the document file
+     */
+    public DocumentFileReader(Path path) {
+        this.path = path;
+        this.charset = Charset.defaultCharset();
+    }
+
+    /**
+     * Opens a reader of the lines of the file.
+     * Malformed characters are replaced instead of aborting the whole file.
+     *
+     * @return a reader of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public BufferedReader openReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(Channels.newInputStream(FileChannel.open(path)), charset),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the file and parses its lines to documents.
+     * If a pool is specified and the file is larger than the chunk size, the file is parsed in parallel.
+     *
+     * @param forkJoinPool the pool to parse the chunks in or {@code null} if the file is parsed sequentially
+     * @param chunkSize the minimum number of bytes of a chunk which is parsed in parallel
+     * @return the parsed chunks of the file in the order of the file
+     * @throws IOException if the file cannot be read
+     */
+    public List<DocumentFileChunk> read(ForkJoinPool forkJoinPool, int chunkSize) throws IOException {
+        List<ByteBuffer> chunks = forkJoinPool == null || !ASCII_COMPATIBLE_CHARSETS.contains(charset)
+                ? null : mapChunks(chunkSize);
+        if (chunks == null) {
+            return List.of(readSequentially());
+        }
+        List<ForkJoinTask<DocumentFileChunk>> tasks = new ArrayList<>();
+        for (ByteBuffer chunk : chunks) {
+            tasks.add(forkJoinPool.submit(() -> parseChunk(chunk)));
+        }
+        List<DocumentFileChunk> parsedChunks = new ArrayList<>();
+        for (ForkJoinTask<DocumentFileChunk> task : tasks) {
+            parsedChunks.add(task.join());
+        }
+        return parsedChunks;
+    }
+
+    private DocumentFileChunk readSequentially() throws IOException {
+        DocumentFileChunk chunk = new DocumentFileChunk();
+        try (BufferedReader reader = openReader()) {
+            String line;
+            while (!chunk.hasInvalidLine() && (line = reader.readLine()) != null) {
+                chunk.parseLine(line);
+            }
+        }
+        return chunk;
+    }
+
+    private List<ByteBuffer> mapChunks(int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path)) {
+            long size = channel.size();
+            if (size <= chunkSize) {
+                return null;
+            }
+            //every chunk starts at the beginning of a line
+            List<ByteBuffer> chunks = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long end = Math.min(findStartOfNextLine(channel, Math.min(start + chunkSize, size), size), size);
+                if (end - start > Integer.MAX_VALUE) { //a single line is too long to be mapped
+                    return null;
+                }
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+                start = end;
+            }
+            return chunks;
+        }
+    }
+
+    private static long findStartOfNextLine(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long current = position;
+        while (current < size) {
+            buffer.clear();
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                byte character = buffer.get(i);
+                if (character == LINE_FEED) {
+                    return current + i + 1;
+                }
+                if (character == CARRIAGE_RETURN) {
+                    //a carriage return followed by a line feed is one line break
+                    return current + i + 1 < size && readByte(channel, current + i + 1) == LINE_FEED
+                            ? current + i + 2 : current + i + 1;
+                }
+            }
+            current += read;
+        }
+        return size;
+    }
+
+    private static byte readByte(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(1);
+        channel.read(buffer, position);
+        return buffer.get(0);
+    }
+
+    private DocumentFileChunk parseChunk(ByteBuffer bytes) {
+        CharBuffer characters;
+        try {
+            characters = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(bytes);
+        } catch (CharacterCodingException e) {
+            //malformed and unmappable characters are replaced, so decoding does not fail
+            throw new IllegalStateException(e);
+        }
+        char[] content = characters.array();
+        int end = characters.arrayOffset() + characters.limit();
+        int startOfLine = characters.arrayOffset() + characters.position();
+        DocumentFileChunk chunk = new DocumentFileChunk();
+        for (int i = startOfLine; i < end && !chunk.hasInvalidLine(); i++) {
+            if (content[i] == LINE_FEED || content[i] == CARRIAGE_RETURN) {
+                chunk.parseLine(new String(content, startOfLine, i - startOfLine));
+                if (content[i] == CARRIAGE_RETURN && i + 1 < end && content[i + 1] == LINE_FEED) {
+                    i++;
+                }
+                startOfLine = i + 1;
+            }
+        }
+        if (startOfLine < end) { //the last line of the file does not need a line break
+            chunk.parseLine(new String(content, startOfLine, end - startOfLine));
+        }
+        return chunk;
+    }
+}
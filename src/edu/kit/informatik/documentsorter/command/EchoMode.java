@@ -0,0 +1,26 @@
+package edu.kit.informatik.documentsorter.command;
+
+/**
+ * This enum represents how much of a loaded document file is printed after loading it.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public enum EchoMode {
+    /**
+     * Every line of the file is printed.
+     * The lines are not held in memory while the file is parsed, they are read from the file a second time after
+     * it has been parsed and are printed once all of them have been read. If the file is changed after it has
+     * been loaded, the printed lines are the changed ones, and if it cannot be read anymore, the file stays loaded
+     * but an error is printed instead of its lines.
+     */
+    FULL,
+    /**
+     * Only the number of documents and tags of the file is printed.
+     */
+    SUMMARY,
+    /**
+     * Nothing of the content of the file is printed.
+     */
+    NONE;
+}
@@ -1,22 +1,28 @@
 package edu.kit.informatik.documentsorter.command;
 
 import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
-import edu.kit.informatik.documentsorter.factory.DocumentFactory;
 import edu.kit.informatik.documentsorter.model.FilingFinesse;
 import edu.kit.informatik.documentsorter.model.document.Document;
 import edu.kit.informatik.documentsorter.model.tag.Tag;
 import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.metrics.FileLoadedEvent;
+import edu.kit.informatik.documentsorter.model.metrics.Phase;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * This command reads in an input file containing all the required data for the file system
  * and saves its contents temporarily.
  * Several files can be read in, but are then treated separately.
+ * The file is parsed while it is read, so only the documents and not the lines of the file are held in memory.
+ * If the file system works in parallel, large files are split into chunks which are parsed in parallel.
  *
  * @author Programmieren-Team
  * @author uexnb
@@ -28,92 +34,140 @@ public final class LoadCommand implements Command {
      * Public because it is used in {@link Tag}.
      */
     public static final String TAG_UNDEFINED_VALUE = "UNDEFINED";
-    private static final String INFORMATION_SEPARATOR = ",";
-    private static final String INVALID_FILE_NAME_MESSAGE = "Document file with the specified name not found";
+    /**
+     * The error message for the case that the file does not exist.
+     * Package-private because it is used in {@link LoadSnapshotCommand}.
+     */
+    static final String INVALID_FILE_NAME_MESSAGE = "Document file with the specified name not found";
     private static final String INVALID_FILE_CONTENT_FORMAT = "File %s is empty";
-    private static final String SUCCESS_MESSAGE_FORMAT = "Loaded %s with id: %d";
+    /**
+     * The format of the error message for the case that the file cannot be read.
+     * Package-private because it is used in {@link LoadSnapshotCommand}.
+     */
+    static final String UNREADABLE_FILE_FORMAT = "File %s could not be read";
+    /**
+     * The format of the message for a successfully loaded file.
+     * Package-private because it is used in {@link LoadSnapshotCommand}.
+     */
+    static final String SUCCESS_MESSAGE_FORMAT = "Loaded %s with id: %d";
+    private static final String SUMMARY_FORMAT = "%d documents with %d tags";
+    private static final String UNREADABLE_LINES_FORMAT = "Loaded %s with id: %d, but its lines could not be read "
+            + "again to print them!";
     private static final String INVALID_ACCESS_NUMBERS_MESSAGE = "The access number of at least one document must be greater than 0";
-    private static final String AMBIGUOS_TAG_MESSAGE = "A tag is defined with different tag types";
     private static final int NUMBER_OF_ARGUMENTS = 1;
+    private final EchoMode echoMode;
+
+    /**
+     * Constructs a new LoadCommand which prints every line of a loaded file.
+     */
+    public LoadCommand() {
+        this(EchoMode.FULL);
+    }
+
+    /**
+     * Constructs a new LoadCommand.
+     *
+     * @param echoMode how much of a loaded file is printed after loading it
+     */
+    public LoadCommand(EchoMode echoMode) {
+        this.echoMode = echoMode;
+    }
+
     @Override
     public CommandResult execute(FilingFinesse model, String[] commandArguments) {
-        Scanner scanner;
-        try { //try to open the file
-            scanner = new Scanner(new File(commandArguments[0]));
-        } catch (FileNotFoundException e) {
+        Path path;
+        try {
+            path = Path.of(commandArguments[0]);
+        } catch (InvalidPathException e) {
             return new CommandResult(CommandResultType.FAILURE, INVALID_FILE_NAME_MESSAGE);
         }
-        //retrieve the file content
-        List<String> fileContent = new ArrayList<>();
-        while (scanner.hasNextLine()) {
-            fileContent.add(scanner.nextLine());
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_FILE_NAME_MESSAGE);
         }
-        scanner.close();
-        if (fileContent.isEmpty()) {
-            return new CommandResult(CommandResultType.FAILURE, INVALID_FILE_CONTENT_FORMAT.formatted(commandArguments[0]));
+        //create the documents using the factory while reading the file, large files are parsed in parallel
+        DocumentFileReader reader = new DocumentFileReader(path);
+        List<DocumentFileChunk> chunks;
+        FileLoadedEvent event = new FileLoadedEvent();
+        event.begin();
+        PhaseMetrics.Measurement parseMeasurement = PhaseMetrics.start();
+        try {
+            chunks = reader.read(model.getForkJoinPool(), model.getLoadChunkSize());
+        } catch (IOException e) {
+            return new CommandResult(CommandResultType.FAILURE, UNREADABLE_FILE_FORMAT.formatted(commandArguments[0]));
         }
-        //create the documents using the factory
-        List<Document> documents = new ArrayList<>();
-        for (String line : fileContent) {
-            String[] documentData = line.split(INFORMATION_SEPARATOR);
-            try {
-                documents.add(new DocumentFactory().create(documentData));
-            } catch (InitialisationException e) {
-                return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        PhaseMetrics.stop(parseMeasurement, Phase.PARSE);
+        //the first invalid line in the order of the file is reported
+        for (DocumentFileChunk chunk : chunks) {
+            if (chunk.hasInvalidLine()) {
+                return new CommandResult(CommandResultType.FAILURE, chunk.getErrorMessage());
             }
         }
-        //extract the tags from the documents and add them to a list storing all tags of the file
-        List<Tag> allTags;
+        //merge the tags of the chunks into a schema storing all tags of the file
+        List<Document> documents = new ArrayList<>();
+        TagSchema tagSchema = new TagSchema();
+        PhaseMetrics.Measurement mergeMeasurement = PhaseMetrics.start();
         try {
-            allTags = storeAllTags(documents);
+            for (DocumentFileChunk chunk : chunks) {
+                if (chunk.getSchemaErrorMessage() != null) {
+                    throw new InitialisationException(chunk.getSchemaErrorMessage());
+                }
+                tagSchema.merge(chunk.getTagSchema());
+                documents.addAll(chunk.getDocuments());
+            }
         } catch (InitialisationException e) {
             return new CommandResult(CommandResultType.FAILURE, e.getMessage());
         }
+        PhaseMetrics.stop(mergeMeasurement, Phase.SCHEMA_MERGE);
+        if (documents.isEmpty()) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_FILE_CONTENT_FORMAT.formatted(commandArguments[0]));
+        }
+        List<Tag> allTags = tagSchema.getTags();
         int accumulatedAccessNumber = documents.stream()
                 .mapToInt(Document::getAccessNumber)
                 .sum();
         if (accumulatedAccessNumber == 0) {
             return new CommandResult(CommandResultType.FAILURE, INVALID_ACCESS_NUMBERS_MESSAGE);
         }
-        //check for every document which tag has not been set yet and add a tag with the value "undefined"
-        documents.forEach(document ->
-                allTags.stream()
-                        .filter(tag -> !document.getTags().contains(tag))
-                        .map(Tag::copy)
-                        .peek(tag -> tag.setValue(TAG_UNDEFINED_VALUE))
-                        .forEach(document::addTag)
-        );
-        //store all the information in a representation of the current file
-        model.addFile(new DocumentFile(allTags, accumulatedAccessNumber, documents));
-        return new CommandResult(CommandResultType.SUCCESS, determineResultMessage(model, commandArguments, fileContent));
+        //store all the information in a representation of the current file,
+        //tags which have not been set for a document get the value "undefined" in there
+        PhaseMetrics.Measurement tableMeasurement = PhaseMetrics.start();
+        DocumentFile documentFile = new DocumentFile(allTags, documents, model.getTableLayout());
+        PhaseMetrics.stop(tableMeasurement, Phase.TABLE_CONSTRUCTION);
+        model.addFile(documentFile);
+        if (event.shouldCommit()) {
+            event.set(path, documentFile, false);
+            event.commit();
+        }
+        return determineResult(commandArguments[0], reader, documentFile, documents.size());
     }
 
-    private static List<Tag> storeAllTags(List<Document> documents) throws InitialisationException {
-        List<Tag> allTags = new ArrayList<>();
-        for (Document document : documents) {
-            for (Tag tag : document.getTags()) {
-                if (!allTags.contains(tag)) { //if the tag is not in the list, add it
-                    allTags.add(tag.copy());
-                } else { //if the tag is already in the list, add the value to the list of possible values
-                    if (allTags.get(allTags.indexOf(tag)).getClass() != tag.getClass()) {
-                        throw new InitialisationException(AMBIGUOS_TAG_MESSAGE);
-                    }
-                    allTags.get(allTags.indexOf(tag)).addPossibleValue(tag.getValue());
-                }
-            }
-        }
-        return allTags;
+    private CommandResult determineResult(String fileName, DocumentFileReader reader, DocumentFile documentFile,
+                                          int numberOfDocuments) {
+        String successMessage = SUCCESS_MESSAGE_FORMAT.formatted(fileName, documentFile.getIdentifier());
+        return switch (echoMode) {
+            case NONE -> new CommandResult(CommandResultType.SUCCESS, successMessage);
+            case SUMMARY -> new CommandResult(CommandResultType.SUCCESS, successMessage + System.lineSeparator()
+                    + SUMMARY_FORMAT.formatted(numberOfDocuments, documentFile.getAllTags().size()));
+            case FULL -> echoLines(fileName, reader, documentFile, successMessage);
+        };
     }
 
-    private String determineResultMessage(FilingFinesse model, String[] commandArguments, List<String> fileContent) {
-        StringBuilder resultMessage = new StringBuilder();
-        resultMessage.append(SUCCESS_MESSAGE_FORMAT.formatted(commandArguments[0],
-                model.getAllDocumentFiles().get(model.getAllDocumentFiles().size() - 1).getIdentifier()));
-        for (String line : fileContent) {
-            resultMessage.append(System.lineSeparator());
-            resultMessage.append(line);
+    private static CommandResult echoLines(String fileName, DocumentFileReader reader, DocumentFile documentFile,
+                                           String successMessage) {
+        //the lines are read again after parsing, see EchoMode.FULL for a file which is changed in the meantime,
+        //and all of them are read before anything is printed, so a failed read never prints only some lines
+        StringBuilder message = new StringBuilder(successMessage);
+        try (BufferedReader lines = reader.openReader()) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                message.append(System.lineSeparator());
+                message.append(line);
+            }
+        } catch (IOException e) {
+            return new CommandResult(CommandResultType.FAILURE,
+                    UNREADABLE_LINES_FORMAT.formatted(fileName, documentFile.getIdentifier()));
         }
-        return resultMessage.toString();
+        return new CommandResult(CommandResultType.SUCCESS, message.toString());
     }
 
     @Override
@@ -0,0 +1,67 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.DocumentFileSnapshot;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.metrics.FileLoadedEvent;
+import edu.kit.informatik.documentsorter.model.metrics.Phase;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import static edu.kit.informatik.documentsorter.command.LoadCommand.INVALID_FILE_NAME_MESSAGE;
+import static edu.kit.informatik.documentsorter.command.LoadCommand.SUCCESS_MESSAGE_FORMAT;
+import static edu.kit.informatik.documentsorter.command.LoadCommand.UNREADABLE_FILE_FORMAT;
+
+/**
+ * This command loads a binary snapshot of a file which has been saved with the command {@code save}.
+ * The snapshot is read from a memory-mapped file, the documents are neither parsed nor are their tags inferred.
+ * The loaded file is treated like a file loaded with the command {@code load}.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class LoadSnapshotCommand implements Command {
+    private static final int NUMBER_OF_ARGUMENTS = 1;
+
+    @Override
+    public CommandResult execute(FilingFinesse model, String[] commandArguments) {
+        Path path;
+        try {
+            path = Path.of(commandArguments[0]);
+        } catch (InvalidPathException e) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_FILE_NAME_MESSAGE);
+        }
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_FILE_NAME_MESSAGE);
+        }
+        DocumentFile documentFile;
+        FileLoadedEvent event = new FileLoadedEvent();
+        event.begin();
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        try {
+            documentFile = DocumentFileSnapshot.read(path, model.getTableLayout());
+        } catch (IOException e) {
+            return new CommandResult(CommandResultType.FAILURE, UNREADABLE_FILE_FORMAT.formatted(commandArguments[0]));
+        } catch (InitialisationException e) {
+            return new CommandResult(CommandResultType.FAILURE, e.getMessage());
+        }
+        PhaseMetrics.stop(measurement, Phase.PARSE);
+        model.addFile(documentFile);
+        if (event.shouldCommit()) {
+            event.set(path, documentFile, true);
+            event.commit();
+        }
+        return new CommandResult(CommandResultType.SUCCESS,
+                SUCCESS_MESSAGE_FORMAT.formatted(commandArguments[0], documentFile.getIdentifier()));
+    }
+
+    @Override
+    public int getNumberOfArguments() {
+        return NUMBER_OF_ARGUMENTS;
+    }
+}
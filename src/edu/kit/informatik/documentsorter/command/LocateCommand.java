@@ -0,0 +1,46 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+
+import static edu.kit.informatik.documentsorter.command.ChangeCommand.INVALID_DOCUMENT_NAME_MESSAGE;
+import static edu.kit.informatik.documentsorter.command.ChangeCommand.INVALID_IDENTIFIER_MESSAGE;
+import static edu.kit.informatik.documentsorter.factory.DocumentFactory.NUMBER_NOT_INT_FAILURE;
+
+/**
+ * This command outputs the path to a single document in the directory tree of a loaded file.
+ * The path is exactly the one which is part of the output of the command {@code run}, but the tree is
+ * only evaluated along the path to the document instead of being generated completely.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class LocateCommand implements Command {
+    private static final int NUMBER_OF_ARGUMENTS = 2;
+
+    @Override
+    public CommandResult execute(FilingFinesse model, String[] commandArguments) {
+        //check if the identifier is valid
+        int identifier;
+        try {
+            identifier = Integer.parseInt(commandArguments[0]);
+        } catch (NumberFormatException e) {
+            return new CommandResult(CommandResultType.FAILURE, NUMBER_NOT_INT_FAILURE);
+        }
+        if (identifier < 0 || identifier >= model.getAllDocumentFiles().size()) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_IDENTIFIER_MESSAGE);
+        }
+        DocumentFile documentFile = model.getAllDocumentFiles().get(identifier);
+        //check if the document exists in the file
+        int ordinal = documentFile.getDocumentTable().getOrdinal(commandArguments[1]);
+        if (ordinal < 0) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_DOCUMENT_NAME_MESSAGE);
+        }
+        return new CommandResult(CommandResultType.SUCCESS, model.locateDocument(documentFile, ordinal));
+    }
+
+    @Override
+    public int getNumberOfArguments() {
+        return NUMBER_OF_ARGUMENTS;
+    }
+}
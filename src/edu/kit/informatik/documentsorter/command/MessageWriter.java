@@ -0,0 +1,21 @@
+package edu.kit.informatik.documentsorter.command;
+
+import java.io.IOException;
+
+/**
+ * This interface represents a function which writes the message of a {@link StreamedCommandResult}
+ * directly to an output.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface MessageWriter {
+    /**
+     * Writes the message to the specified output.
+     *
+     * @param output the output to write the message to
+     * @throws IOException if the output cannot be written
+     */
+    void writeTo(Appendable output) throws IOException;
+}
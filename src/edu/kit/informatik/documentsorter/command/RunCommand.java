@@ -1,5 +1,6 @@
 package edu.kit.informatik.documentsorter.command;
 
+import edu.kit.informatik.documentsorter.model.DocumentFile;
 import edu.kit.informatik.documentsorter.model.FilingFinesse;
 
 import static edu.kit.informatik.documentsorter.command.ChangeCommand.INVALID_IDENTIFIER_MESSAGE;
@@ -11,6 +12,8 @@ import static edu.kit.informatik.documentsorter.factory.DocumentFactory.NUMBER_N
  * command as a parameter. If access numbers of any documents have been changed
  * since loading, this is taken into account.
  * The output then consists of the calculated directory tree.
+ * With the option {@code --limit <number>} only the given number of paths to the documents is printed, ordered by
+ * their likelihood. The tree is then only generated as far as it is needed for these paths.
  *
  * @author Programmieren-Team
  * @author uexnb
@@ -18,6 +21,10 @@ import static edu.kit.informatik.documentsorter.factory.DocumentFactory.NUMBER_N
  */
 public final class RunCommand implements Command {
     private static final int NUMBER_OF_ARGUMENTS = 1;
+    private static final int NUMBER_OF_ARGUMENTS_WITH_LIMIT = 3;
+    private static final String LIMIT_OPTION = "--limit";
+    private static final String INVALID_OPTION_FORMAT = "The option '%s' is unknown.";
+    private static final String INVALID_LIMIT_MESSAGE = "The limit must be a positive integer.";
     @Override
     public CommandResult execute(FilingFinesse model, String[] commandArguments) {
         //check if the identifier is valid
@@ -30,12 +37,35 @@ public final class RunCommand implements Command {
         if (identifier < 0 || identifier >= model.getAllDocumentFiles().size()) {
             return new CommandResult(CommandResultType.FAILURE, INVALID_IDENTIFIER_MESSAGE);
         }
-        model.generateDirectoryTree(model.getAllDocumentFiles().get(identifier));
-        return new CommandResult(CommandResultType.SUCCESS, model.getDirectoryTree().getOutput());
+        DocumentFile documentFile = model.getAllDocumentFiles().get(identifier);
+        if (commandArguments.length == NUMBER_OF_ARGUMENTS) {
+            return new StreamedCommandResult(CommandResultType.SUCCESS,
+                    output -> model.writeDirectoryTreeOutput(documentFile, output));
+        }
+        //check if the limit of the paths is valid
+        if (!commandArguments[1].equals(LIMIT_OPTION)) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_OPTION_FORMAT.formatted(commandArguments[1]));
+        }
+        int limit;
+        try {
+            limit = Integer.parseInt(commandArguments[2]);
+        } catch (NumberFormatException e) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_LIMIT_MESSAGE);
+        }
+        if (limit <= 0) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_LIMIT_MESSAGE);
+        }
+        return new StreamedCommandResult(CommandResultType.SUCCESS,
+                output -> model.writeDocumentPaths(documentFile, output, limit));
     }
 
     @Override
     public int getNumberOfArguments() {
         return NUMBER_OF_ARGUMENTS;
     }
+
+    @Override
+    public boolean acceptsNumberOfArguments(int numberOfArguments) {
+        return numberOfArguments == NUMBER_OF_ARGUMENTS || numberOfArguments == NUMBER_OF_ARGUMENTS_WITH_LIMIT;
+    }
 }
@@ -0,0 +1,52 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.DocumentFileSnapshot;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import static edu.kit.informatik.documentsorter.command.ChangeCommand.INVALID_IDENTIFIER_MESSAGE;
+import static edu.kit.informatik.documentsorter.factory.DocumentFactory.NUMBER_NOT_INT_FAILURE;
+
+/**
+ * This command saves a binary snapshot of a loaded file, including the changed access numbers of its documents.
+ * The snapshot can be loaded again with the command {@code load-snapshot} without parsing the file.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class SaveCommand implements Command {
+    private static final int NUMBER_OF_ARGUMENTS = 2;
+    private static final String SUCCESS_MESSAGE_FORMAT = "Saved %d to %s";
+    private static final String UNWRITABLE_FILE_FORMAT = "File %s could not be written";
+
+    @Override
+    public CommandResult execute(FilingFinesse model, String[] commandArguments) {
+        //check if the identifier is valid
+        int identifier;
+        try {
+            identifier = Integer.parseInt(commandArguments[0]);
+        } catch (NumberFormatException e) {
+            return new CommandResult(CommandResultType.FAILURE, NUMBER_NOT_INT_FAILURE);
+        }
+        if (identifier < 0 || identifier >= model.getAllDocumentFiles().size()) {
+            return new CommandResult(CommandResultType.FAILURE, INVALID_IDENTIFIER_MESSAGE);
+        }
+        DocumentFile documentFile = model.getAllDocumentFiles().get(identifier);
+        try {
+            DocumentFileSnapshot.write(documentFile, Path.of(commandArguments[1]));
+        } catch (InvalidPathException | IOException e) {
+            return new CommandResult(CommandResultType.FAILURE, UNWRITABLE_FILE_FORMAT.formatted(commandArguments[1]));
+        }
+        return new CommandResult(CommandResultType.SUCCESS,
+                SUCCESS_MESSAGE_FORMAT.formatted(identifier, commandArguments[1]));
+    }
+
+    @Override
+    public int getNumberOfArguments() {
+        return NUMBER_OF_ARGUMENTS;
+    }
+}
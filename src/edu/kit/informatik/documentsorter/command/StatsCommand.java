@@ -0,0 +1,55 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseStatistics;
+
+import java.util.List;
+
+/**
+ * This command prints the elapsed time, the cpu time and the allocated bytes of the phases of the last command
+ * executed by a {@link CommandHandler command handler}.
+ * The phases are only measured if the program has been started with the option {@code --metrics on} or
+ * {@code --metrics-file <path>}.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class StatsCommand implements Command {
+    private static final String METRICS_DISABLED_MESSAGE = "The phases of the commands are not measured, use the "
+            + "option --metrics on or --metrics-file <path>";
+    private static final String NO_MEASURED_COMMAND_MESSAGE = "No command has been measured yet";
+    private static final String HEADER_FORMAT = "Phases of the command %s:";
+    private final CommandHandler commandHandler;
+
+    /**
+     * Constructs a new StatsCommand.
+     *
+     * @param commandHandler the command handler whose last command is printed
+     */
+    public StatsCommand(CommandHandler commandHandler) {
+        this.commandHandler = commandHandler;
+    }
+
+    @Override
+    public CommandResult execute(FilingFinesse model, String[] commandArguments) {
+        if (!PhaseMetrics.isEnabled()) {
+            return new CommandResult(CommandResultType.FAILURE, METRICS_DISABLED_MESSAGE);
+        }
+        List<PhaseStatistics> statistics = commandHandler.getStatisticsOfLastMeasuredCommand();
+        if (statistics == null) {
+            return new CommandResult(CommandResultType.FAILURE, NO_MEASURED_COMMAND_MESSAGE);
+        }
+        StringBuilder output = new StringBuilder(HEADER_FORMAT.formatted(
+                commandHandler.getNameOfLastMeasuredCommand()));
+        for (PhaseStatistics statisticsOfPhase : statistics) {
+            output.append(System.lineSeparator()).append(statisticsOfPhase);
+        }
+        return new CommandResult(CommandResultType.SUCCESS, output.toString());
+    }
+
+    @Override
+    public int getNumberOfArguments() {
+        return 0;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.kit.informatik.documentsorter.command;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * This class represents the result of a command whose message is written directly to the output
+ * instead of being built as one string first. This is used for results with very large messages.
+ *
+ * @see CommandResult
+ * @see MessageWriter
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class StreamedCommandResult extends CommandResult {
+    private final MessageWriter messageWriter;
+
+    /**
+     * Constructs a new StreamedCommandResult.
+     *
+     * @param type          the type of the result
+     * @param messageWriter the function writing the message of the result
+     */
+    public StreamedCommandResult(CommandResultType type, MessageWriter messageWriter) {
+        super(type, null);
+        this.messageWriter = messageWriter;
+    }
+
+    /**
+     * Returns the message of the result. The whole message is built in memory,
+     * so {@link #writeMessage(Appendable)} should be preferred.
+     *
+     * @return the message of the result.
+     */
+    @Override
+    public String getMessage() {
+        StringBuilder message = new StringBuilder();
+        try {
+            messageWriter.writeTo(message);
+        } catch (IOException e) {
+            //appending to a string builder does not fail, but the message writer may still throw an exception
+            throw new UncheckedIOException(e);
+        }
+        return message.toString();
+    }
+
+    @Override
+    public boolean hasMessage() {
+        return true;
+    }
+
+    @Override
+    public void writeMessage(Appendable output) throws IOException {
+        messageWriter.writeTo(output);
+    }
+}
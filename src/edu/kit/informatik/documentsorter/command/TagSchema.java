@@ -0,0 +1,80 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.model.document.Document;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents the tags of a document file together with all their possible values.
+ * The tags are ordered by their first occurrence in the file, the possible values of a tag as well.
+ * The tags are indexed by their names, so adding a tag takes constant time regardless of the number of tags.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class TagSchema {
+    private static final String AMBIGUOS_TAG_MESSAGE = "A tag is defined with different tag types";
+    private final Map<String, Tag> tags;
+
+    /**
+     * Constructs a new empty tag schema.
+     */
+    public TagSchema() {
+        this.tags = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds the tags of the specified document and their values to the schema.
+     *
+     * @param document the document whose tags are added
+     * @throws InitialisationException if a tag is already defined with a different tag type
+     */
+    public void addTagsOf(Document document) throws InitialisationException {
+        for (Tag tag : document.getTags()) {
+            addTag(tag, Collections.singletonList(tag.getValue()));
+        }
+    }
+
+    /**
+     * Adds the tags of the specified schema and all their possible values to this schema.
+     * The other schema has to contain the tags of documents succeeding the ones of this schema.
+     *
+     * @param other the schema to merge into this schema
+     * @throws InitialisationException if a tag is defined with different tag types in the schemas
+     */
+    public void merge(TagSchema other) throws InitialisationException {
+        for (Tag tag : other.tags.values()) {
+            addTag(tag, tag.getPossibleValues());
+        }
+    }
+
+    private void addTag(Tag tag, Collection<String> values) throws InitialisationException {
+        Tag existingTag = tags.get(tag.getName());
+        if (existingTag == null) { //if the tag is not in the schema, add it
+            tags.put(tag.getName(), tag.copy());
+        } else { //if the tag is already in the schema, add the values to the possible values
+            if (existingTag.getClass() != tag.getClass()) {
+                throw new InitialisationException(AMBIGUOS_TAG_MESSAGE);
+            }
+            for (String value : values) {
+                existingTag.addPossibleValue(value);
+            }
+        }
+    }
+
+    /**
+     * Returns the tags of the schema.
+     *
+     * @return the tags of the schema
+     */
+    public List<Tag> getTags() {
+        return Collections.unmodifiableList(new ArrayList<>(tags.values()));
+    }
+}
@@ -7,6 +7,8 @@ import edu.kit.informatik.documentsorter.model.document.ImageDocument;
 import edu.kit.informatik.documentsorter.model.document.ProgramDocument;
 import edu.kit.informatik.documentsorter.model.document.TextDocument;
 import edu.kit.informatik.documentsorter.model.document.VideoDocument;
+import edu.kit.informatik.documentsorter.model.metrics.Phase;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
 import edu.kit.informatik.documentsorter.model.tag.Tag;
 
 import java.util.ArrayList;
@@ -49,6 +51,7 @@ public class DocumentFactory implements Factory<Document> {
     private static final String INVALID_NUMBER_OF_ARGUMENTS_MESSAGE = "The number of arguments for a document is too small.";
     private static final String[] TAGS_TO_MODIFY = {ImageDocument.SIZE_TAG_NAME, AudioDocument.LENGTH_TAG_NAME,
                                                     AudioDocument.GENRE_TAG_NAME, TextDocument.WORDS_TAG_NAME};
+    private final TagFactory tagFactory = new TagFactory();
     @Override
     public Document create(String[] arguments) throws InitialisationException {
         //check if the number of arguments is at least three (name, type, access number)
@@ -58,11 +61,9 @@ public class DocumentFactory implements Factory<Document> {
         //extract the tags, hash set used to detect duplicate tags
         Set<Tag> tags = new HashSet<>();
         for (int i = START_INDEX_FOR_TAGS; i < arguments.length; i++) {
-            Tag currentTag = new TagFactory().create(new String[] {arguments[i]});
-            if (!tags.add(currentTag)) {
+            if (!tags.add(tagFactory.create(new String[] {arguments[i]}))) {
                 throw new InitialisationException(DUPLICATE_TAGS_MESSAGE);
             }
-            tags.add(new TagFactory().create(new String[] {arguments[i]}));
         }
         List<Tag> tagList = new ArrayList<>(tags);
         //check if the document contains an inferred tag and a modifiable tag
@@ -83,7 +84,11 @@ public class DocumentFactory implements Factory<Document> {
         if (accessNumber < 0) {
             throw new InitialisationException(INVALID_ACCESS_NUMBER_MESSAGE);
         }
-        return getDocument(arguments[0], arguments[1], accessNumber, tagList);
+        //the tags of a document are inferred from its type while it is constructed
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        Document document = getDocument(arguments[0], arguments[1], accessNumber, tagList);
+        PhaseMetrics.stop(measurement, Phase.INFERENCE);
+        return document;
     }
 
     private static Document getDocument(String name, String documentType, int accessNumber, List<Tag> tagList)
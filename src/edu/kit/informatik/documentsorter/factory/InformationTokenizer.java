@@ -0,0 +1,54 @@
+package edu.kit.informatik.documentsorter.factory;
+
+import java.util.Arrays;
+
+/**
+ * This class splits the lines of a document file into their pieces of information.
+ * The result is the same as the one of {@link String#split(String)} with a single separator character,
+ * that is trailing empty pieces are removed, but no regular expression is involved.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class InformationTokenizer {
+    private static final String UTILITY_CLASS_CONSTRUCTOR_MESSAGE = "Utility classes cannot be instantiated";
+
+    private InformationTokenizer() {
+        throw new UnsupportedOperationException(UTILITY_CLASS_CONSTRUCTOR_MESSAGE);
+    }
+
+    /**
+     * Splits the specified line at every occurrence of the separator.
+     *
+     * @param line the line to split
+     * @param separator the character separating the pieces of information
+     * @return the pieces of information without trailing empty pieces
+     */
+    public static String[] tokenize(String line, char separator) {
+        if (line.isEmpty()) { //an empty line consists of one empty piece
+            return new String[] {line};
+        }
+        int numberOfTokens = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == separator) {
+                numberOfTokens++;
+            }
+        }
+        String[] tokens = new String[numberOfTokens];
+        int startOfToken = 0;
+        int indexOfToken = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == separator) {
+                tokens[indexOfToken++] = line.substring(startOfToken, i);
+                startOfToken = i + 1;
+            }
+        }
+        tokens[indexOfToken] = line.substring(startOfToken);
+        //remove trailing empty pieces
+        int length = numberOfTokens;
+        while (length > 0 && tokens[length - 1].isEmpty()) {
+            length--;
+        }
+        return length == numberOfTokens ? tokens : Arrays.copyOf(tokens, length);
+    }
+}
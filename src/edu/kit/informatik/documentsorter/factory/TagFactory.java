@@ -11,11 +11,15 @@ import edu.kit.informatik.documentsorter.model.tag.MultivalueTag;
 import edu.kit.informatik.documentsorter.model.tag.NumericTag;
 
 import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static edu.kit.informatik.documentsorter.factory.DocumentFactory.NUMBER_NOT_INT_FAILURE;
 
 /**
  * This class is a factory for creating tags.
+ * A tag is lexed in a single pass over its characters, the allowed characters are looked up in a table
+ * instead of matching regular expressions.
  *
  * @author uexnb
  * @version 1.0
@@ -29,45 +33,121 @@ public class TagFactory implements Factory<Tag> {
                                                 VideoDocument.VIDEO_LENGTH_TAG_NAME, TextDocument.TEXT_LENGTH_TAG_NAME,
                                                 TextDocument.TEXT_GENRE_TAG_NAME};
 
-    private static final String ASSIGNMENT_CHARACTER = "=";
-    private static final String BINARY_TAG_REGEX = "^[a-zA-Z][a-zA-Z0-9]+$";
-    private static final String MULTIVALUE_TAG_VALUE_REGEX = "[a-zA-Z][a-zA-Z0-9 ]+";
-    private static final String NUMERIC_TAG_VALUE_REGEX = "\\d+";
+    private static final Set<String> FOLDED_INFERRED_TAG_NAMES = Arrays.stream(INFERRED_TAG_NAMES)
+            .map(TagFactory::foldCase)
+            .collect(Collectors.toUnmodifiableSet());
+    private static final char ASSIGNMENT_CHARACTER = '=';
+    private static final int LETTER = 1;
+    private static final int DIGIT = 2;
+    private static final int SPACE = 4;
+    private static final int[] CHARACTER_CLASSES = createCharacterClasses();
     private static final String INVALID_TAG_FORMAT_MESSAGE = "The tag format is invalid.";
     private static final String INVALID_INFERRED_TAG_MESSAGE = "An inferred tag is defined with the wrong tag type.";
 
     @Override
     public Tag create(String[] arguments) throws InitialisationException {
         String tagInformation = arguments[0];
-        Tag currentTag;
-        String[] tagParts = tagInformation.split(ASSIGNMENT_CHARACTER);
-        String tagName = tagParts[0];
-        String tagValue = tagParts.length > 1 ? tagParts[1] : null;
+        //the tag is split like by String#split, so everything after a second assignment character is ignored
+        int indexOfAssignment = tagInformation.indexOf(ASSIGNMENT_CHARACTER);
+        String tagName = indexOfAssignment < 0 ? tagInformation : tagInformation.substring(0, indexOfAssignment);
+        String tagValue = null;
+        if (indexOfAssignment >= 0 && !consistsOfAssignments(tagInformation, indexOfAssignment + 1)) {
+            int endOfValue = tagInformation.indexOf(ASSIGNMENT_CHARACTER, indexOfAssignment + 1);
+            tagValue = tagInformation.substring(indexOfAssignment + 1,
+                    endOfValue < 0 ? tagInformation.length() : endOfValue);
+        } else if (tagName.isEmpty() && indexOfAssignment >= 0) { //the tag consists only of assignment characters
+            throw new InitialisationException(INVALID_TAG_FORMAT_MESSAGE);
+        }
 
-        if (Arrays.stream(INFERRED_TAG_NAMES).anyMatch(tagName::equalsIgnoreCase)) {
+        if (FOLDED_INFERRED_TAG_NAMES.contains(foldCase(tagName))) {
             throw new InitialisationException(INVALID_INFERRED_TAG_MESSAGE);
         }
 
         if (tagValue == null) {
-            if (!tagName.matches(BINARY_TAG_REGEX)) {
+            //binary tag: a letter followed by at least one letter or digit
+            if (!matches(tagName, LETTER | DIGIT)) {
                 throw new InitialisationException(INVALID_TAG_FORMAT_MESSAGE);
             }
-            currentTag = new BinaryTag(tagName);
-        } else {
-            if (tagValue.matches(NUMERIC_TAG_VALUE_REGEX)) {
-                try {
-                    Integer.parseInt(tagValue);
-                } catch (NumberFormatException e) {
-                    throw new InitialisationException(NUMBER_NOT_INT_FAILURE);
-                }
-                currentTag = new NumericTag(tagName, tagValue);
-            } else if (tagValue.matches(MULTIVALUE_TAG_VALUE_REGEX)) {
-                currentTag = new MultivalueTag(tagName, tagValue);
-            } else {
-                throw new InitialisationException(INVALID_TAG_FORMAT_MESSAGE);
+            return new BinaryTag(tagName);
+        }
+        if (isNumber(tagValue)) {
+            try {
+                Integer.parseInt(tagValue);
+            } catch (NumberFormatException e) {
+                throw new InitialisationException(NUMBER_NOT_INT_FAILURE);
+            }
+            return new NumericTag(tagName, tagValue);
+        }
+        //multivalue tag: a letter followed by at least one letter, digit or space
+        if (matches(tagValue, LETTER | DIGIT | SPACE)) {
+            return new MultivalueTag(tagName, tagValue);
+        }
+        throw new InitialisationException(INVALID_TAG_FORMAT_MESSAGE);
+    }
+
+    private static boolean consistsOfAssignments(String tagInformation, int from) {
+        for (int i = from; i < tagInformation.length(); i++) {
+            if (tagInformation.charAt(i) != ASSIGNMENT_CHARACTER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String text, int classesOfRemainingCharacters) {
+        if (text.length() < 2 || !hasClass(text.charAt(0), LETTER)) {
+            return false;
+        }
+        for (int i = 1; i < text.length(); i++) {
+            if (!hasClass(text.charAt(i), classesOfRemainingCharacters)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNumber(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!hasClass(text.charAt(i), DIGIT)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasClass(char character, int classes) {
+        return character < CHARACTER_CLASSES.length && (CHARACTER_CLASSES[character] & classes) != 0;
+    }
+
+    private static String foldCase(String name) {
+        //folds every character like String#equalsIgnoreCase, the name is only copied if a character changes
+        char[] foldedName = null;
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            char foldedCharacter = Character.toLowerCase(Character.toUpperCase(character));
+            if (foldedCharacter != character && foldedName == null) {
+                foldedName = name.toCharArray();
+            }
+            if (foldedName != null) {
+                foldedName[i] = foldedCharacter;
             }
         }
+        return foldedName == null ? name : new String(foldedName);
+    }
 
-        return currentTag;
+    private static int[] createCharacterClasses() {
+        int[] characterClasses = new int[128];
+        for (char character = 'a'; character <= 'z'; character++) {
+            characterClasses[character] = LETTER;
+            characterClasses[Character.toUpperCase(character)] = LETTER;
+        }
+        for (char character = '0'; character <= '9'; character++) {
+            characterClasses[character] = DIGIT;
+        }
+        characterClasses[' '] = SPACE;
+        return characterClasses;
     }
 }
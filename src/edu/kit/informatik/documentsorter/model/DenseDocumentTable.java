@@ -0,0 +1,106 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.model.document.Document;
+import edu.kit.informatik.documentsorter.model.document.DocumentType;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents a document table which stores the value of every tag for every document.
+ * The value of every tag is stored in one column which is indexed by the ordinal of the document.
+ *
+ * @see DocumentTable
+ * @author uexnb
+ * @version 1.0
+ */
+public class DenseDocumentTable extends DocumentTable {
+    private final String[] names;
+    private final int[] accessNumbers;
+    private final byte[] types;
+    private final int[][] columns;
+
+    /**
+     * Constructs a new dense document table with the given tags and documents.
+     *
+     * @param tags all tags of the documents with all of their possible values
+     * @param documents the documents of the table
+     */
+    public DenseDocumentTable(List<Tag> tags, List<Document> documents) {
+        super(tags);
+        this.names = new String[documents.size()];
+        this.accessNumbers = new int[documents.size()];
+        this.types = new byte[documents.size()];
+        this.columns = new int[tags.size()][documents.size()];
+        for (int tagId = 0; tagId < columns.length; tagId++) {
+            Arrays.fill(columns[tagId], getUndefinedValueId(tagId));
+        }
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            Document document = documents.get(ordinal);
+            names[ordinal] = document.getName();
+            accessNumbers[ordinal] = document.getAccessNumber();
+            types[ordinal] = (byte) document.getType().ordinal();
+            for (Tag tag : document.getTags()) {
+                int tagId = getTagId(tag.getName());
+                columns[tagId][ordinal] = getValueId(tagId, tag.getValue());
+            }
+        }
+    }
+
+    /**
+     * Constructs a new dense document table from the rows of the set tags of the documents.
+     * Package-private because it is used in {@link DocumentFileSnapshot}.
+     *
+     * @param tags all tags of the documents with all of their possible values
+     * @param names the names of the documents
+     * @param accessNumbers the access numbers of the documents
+     * @param types the ordinals of the types of the documents
+     * @param rows the set tags of the documents
+     */
+    DenseDocumentTable(List<Tag> tags, String[] names, int[] accessNumbers, byte[] types, DocumentRows rows) {
+        super(tags);
+        this.names = names;
+        this.accessNumbers = accessNumbers;
+        this.types = types;
+        this.columns = new int[tags.size()][names.length];
+        for (int tagId = 0; tagId < columns.length; tagId++) {
+            Arrays.fill(columns[tagId], getUndefinedValueId(tagId));
+        }
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            for (int entry = rows.getStartOfRow(ordinal); entry < rows.getEndOfRow(ordinal); entry++) {
+                columns[rows.getTagIdOfEntry(entry)][ordinal] = rows.getValueIdOfEntry(entry);
+            }
+        }
+    }
+
+    @Override
+    public int getNumberOfDocuments() {
+        return names.length;
+    }
+
+    @Override
+    public String getName(int ordinal) {
+        return names[ordinal];
+    }
+
+    @Override
+    public int getAccessNumber(int ordinal) {
+        return accessNumbers[ordinal];
+    }
+
+    @Override
+    public DocumentType getDocumentType(int ordinal) {
+        return toDocumentType(types[ordinal]);
+    }
+
+    @Override
+    public void setAccessNumber(int ordinal, int accessNumber) {
+        accessNumbers[ordinal] = accessNumber;
+    }
+
+    @Override
+    public int getValueIdOfDocument(int tagId, int ordinal) {
+        return columns[tagId][ordinal];
+    }
+}
@@ -0,0 +1,105 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.model.tree.DirectoryTree;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class represents a cache for the directory trees of the document files and their rendered output.
+ * The cache holds the trees of a limited number of files, if it is full the tree of the least recently
+ * used file is evicted. A rendered output is only valid as long as the version of its file does not change.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class DirectoryTreeCache {
+    private final Map<DocumentFile, CacheEntry> entries;
+
+    /**
+     * Constructs a new cache holding the directory trees of at most the specified number of files.
+     *
+     * @param capacity the maximum number of files whose directory trees are cached
+     */
+    public DirectoryTreeCache(int capacity) {
+        this.entries = new LeastRecentlyUsedMap(capacity);
+    }
+
+    /**
+     * Returns the cached directory tree of the specified file.
+     *
+     * @param documentFile the document file
+     * @return the directory tree of the file or {@code null} if it is not cached
+     */
+    public DirectoryTree getDirectoryTree(DocumentFile documentFile) {
+        CacheEntry entry = entries.get(documentFile);
+        return entry == null ? null : entry.directoryTree;
+    }
+
+    /**
+     * Caches the generated directory tree of the specified file.
+     *
+     * @param documentFile the document file
+     * @param directoryTree the directory tree of the file
+     */
+    public void putDirectoryTree(DocumentFile documentFile, DirectoryTree directoryTree) {
+        entries.put(documentFile, new CacheEntry(directoryTree));
+    }
+
+    /**
+     * Returns the cached output of the directory tree of the specified file, if the file has not been changed
+     * since the output has been rendered.
+     *
+     * @param documentFile the document file
+     * @return the output of the directory tree or {@code null} if there is no valid output in the cache
+     */
+    public String getOutput(DocumentFile documentFile) {
+        CacheEntry entry = entries.get(documentFile);
+        if (entry == null || entry.output == null || entry.versionOfOutput != documentFile.getVersion()) {
+            return null;
+        }
+        return entry.output;
+    }
+
+    /**
+     * Caches the rendered output of the directory tree of the specified file for the current version of the file.
+     * The directory tree of the file has to be cached already.
+     *
+     * @param documentFile the document file
+     * @param output the rendered output of the directory tree
+     */
+    public void putOutput(DocumentFile documentFile, String output) {
+        CacheEntry entry = entries.get(documentFile);
+        if (entry != null) {
+            entry.output = output;
+            entry.versionOfOutput = documentFile.getVersion();
+        }
+    }
+
+    private static final class CacheEntry {
+        private final DirectoryTree directoryTree;
+        private String output;
+        private long versionOfOutput;
+
+        private CacheEntry(DirectoryTree directoryTree) {
+            this.directoryTree = directoryTree;
+        }
+    }
+
+    private static final class LeastRecentlyUsedMap extends LinkedHashMap<DocumentFile, CacheEntry> {
+        private static final long serialVersionUID = 4012457812095123562L;
+        private static final int INITIAL_CAPACITY = 16;
+        private static final float LOAD_FACTOR = 0.75f;
+        private final int capacity;
+
+        private LeastRecentlyUsedMap(int capacity) {
+            super(INITIAL_CAPACITY, LOAD_FACTOR, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<DocumentFile, CacheEntry> eldest) {
+            return size() > capacity;
+        }
+    }
+}
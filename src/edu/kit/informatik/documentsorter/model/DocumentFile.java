@@ -18,28 +18,44 @@ public class DocumentFile {
     private static int numberOfFiles = 0;
     private final int identifier;
     private final List<Tag> allTags;
-    private final int accessNumber;
-    private final List<Document> documents;
+    private final DocumentTable documentTable;
+    private long version;
 
     /**
-     * Constructs a new file with the given tags, documents and access number.
+     * Constructs a new file with the given tags and documents.
      *
      * @param allTags the tags of the file
-     * @param accessNumber the access number of the file
      * @param documents the documents in the file
      */
-    public DocumentFile(List<Tag> allTags, int accessNumber, List<Document> documents) {
+    public DocumentFile(List<Tag> allTags, List<Document> documents) {
+        this(allTags, documents, TableLayout.DENSE);
+    }
+
+    /**
+     * Constructs a new file with the given tags and documents stored in a table with the specified layout.
+     *
+     * @param allTags the tags of the file
+     * @param documents the documents in the file
+     * @param tableLayout the layout of the table storing the documents
+     */
+    public DocumentFile(List<Tag> allTags, List<Document> documents, TableLayout tableLayout) {
+        this(allTags, switch (tableLayout) {
+            case DENSE -> new DenseDocumentTable(allTags, documents);
+            case SPARSE, MAPPED -> new SparseDocumentTable(allTags, documents);
+        });
+    }
+
+    /**
+     * Constructs a new file with the given tags and the table already storing its documents.
+     *
+     * @param allTags the tags of the file
+     * @param documentTable the table storing the documents of the file
+     */
+    public DocumentFile(List<Tag> allTags, DocumentTable documentTable) {
         this.identifier = numberOfFiles;
         this.allTags = new ArrayList<>(allTags);
-        this.accessNumber = accessNumber;
-        this.documents = new ArrayList<>(documents);
+        this.documentTable = documentTable;
         numberOfFiles++;
-        setProbabilitiesOfDocuments();
-    }
-    private void setProbabilitiesOfDocuments() {
-        for (Document document : documents) {
-            document.setCurrentProbability(((double) document.getAccessNumber()) / accessNumber);
-        }
     }
     /**
      * Returns the identifier of the file.
@@ -58,12 +74,26 @@ public class DocumentFile {
         return Collections.unmodifiableList(allTags);
     }
     /**
-     * Returns the documents in the file.
+     * Returns the table containing the documents in the file.
+     *
+     * @return the table containing the documents in the file
+     */
+    public DocumentTable getDocumentTable() {
+        return documentTable;
+    }
+    /**
+     * Returns the version of the file, which is increased every time a document of the file is changed.
      *
-     * @return the documents in the file
+     * @return the version of the file
+     */
+    public long getVersion() {
+        return version;
+    }
+    /**
+     * Increases the version of the file after a document of the file has been changed.
      */
-    public List<Document> getDocuments() {
-        return Collections.unmodifiableList(documents);
+    public void increaseVersion() {
+        version++;
     }
     /**
      * Returns the number of files.
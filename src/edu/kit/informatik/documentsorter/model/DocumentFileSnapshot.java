@@ -0,0 +1,342 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.model.document.DocumentType;
+import edu.kit.informatik.documentsorter.model.tag.BinaryTag;
+import edu.kit.informatik.documentsorter.model.tag.MultivalueTag;
+import edu.kit.informatik.documentsorter.model.tag.NumericTag;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static edu.kit.informatik.documentsorter.command.LoadCommand.TAG_UNDEFINED_VALUE;
+
+/**
+ * This class writes and reads binary snapshots of document files.
+ * A snapshot contains the interned tags with their values and the documents in a columnar layout:
+ * the access numbers, the rows of the set tags, the names and the types of the documents.
+ * Reading a snapshot restores the document table without parsing the documents or inferring any tags.
+ * All integers are stored in big-endian byte order and all arrays of integers are aligned to four bytes,
+ * so the snapshot can be read directly from a memory-mapped file.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class DocumentFileSnapshot {
+    private static final String UTILITY_CLASS_CONSTRUCTOR_MESSAGE = "Utility classes cannot be instantiated";
+    private static final String INVALID_SNAPSHOT_MESSAGE = "The file is not a valid snapshot.";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int MAGIC_NUMBER = 0x444F4353;
+    private static final int FORMAT_VERSION = 1;
+    private static final int BYTES_OF_INTEGER = Integer.BYTES;
+    private static final byte BINARY_TAG = 0;
+    private static final byte MULTIVALUE_TAG = 1;
+    private static final byte NUMERIC_TAG = 2;
+
+    private DocumentFileSnapshot() {
+        throw new UnsupportedOperationException(UTILITY_CLASS_CONSTRUCTOR_MESSAGE);
+    }
+
+    /**
+     * Writes a snapshot of the specified document file including the current access numbers of its documents.
+     *
+     * @param documentFile the document file
+     * @param path the path of the snapshot
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(DocumentFile documentFile, Path path) throws IOException {
+        //a loaded file might still read the snapshot from its mapping, so the snapshot is replaced and not overwritten
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temporaryPath))) {
+                write(documentFile.getDocumentTable(), new DataOutputStream(output));
+            }
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private static void write(DocumentTable documentTable, DataOutputStream output) throws IOException {
+        DocumentRows rows = getRows(documentTable);
+        int numberOfDocuments = documentTable.getNumberOfDocuments();
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        //the dictionary of the tags and their values
+        output.writeInt(documentTable.getNumberOfTags());
+        for (int tagId = 0; tagId < documentTable.getNumberOfTags(); tagId++) {
+            output.writeByte(getKindOfTag(documentTable.getTag(tagId)));
+            writeString(output, documentTable.getTag(tagId).getName());
+            output.writeInt(documentTable.getNumberOfValues(tagId));
+            for (int valueId = 0; valueId < documentTable.getNumberOfValues(tagId); valueId++) {
+                writeString(output, documentTable.getValue(tagId, valueId));
+            }
+        }
+        while (output.size() % BYTES_OF_INTEGER != 0) {
+            output.writeByte(0);
+        }
+        //the columns of the documents
+        output.writeInt(numberOfDocuments);
+        output.writeInt(rows.getNumberOfEntries());
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            output.writeInt(documentTable.getAccessNumber(ordinal));
+        }
+        for (int ordinal = 0; ordinal <= numberOfDocuments; ordinal++) {
+            output.writeInt(rows.getStartOfRow(ordinal));
+        }
+        for (int entry = 0; entry < rows.getNumberOfEntries(); entry++) {
+            output.writeInt(rows.getTagIdOfEntry(entry));
+        }
+        for (int entry = 0; entry < rows.getNumberOfEntries(); entry++) {
+            output.writeInt(rows.getValueIdOfEntry(entry));
+        }
+        byte[][] names = new byte[numberOfDocuments][];
+        int offsetOfName = 0;
+        output.writeInt(offsetOfName);
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            names[ordinal] = documentTable.getName(ordinal).getBytes(StandardCharsets.UTF_8);
+            offsetOfName += names[ordinal].length;
+            output.writeInt(offsetOfName);
+        }
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            output.writeByte(documentTable.getDocumentType(ordinal).ordinal());
+        }
+        for (byte[] name : names) {
+            output.write(name);
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a snapshot of a document file by mapping it into memory.
+     * With the mapped layout the documents stay in the mapping. The mapping is private if the snapshot is writable,
+     * so changing an access number never changes the snapshot. Otherwise, the access numbers are copied.
+     * The other layouts copy the documents and only need to read the snapshot, so they map it read-only.
+     *
+     * @param path the path of the snapshot
+     * @param tableLayout the layout of the table storing the documents
+     * @return the document file of the snapshot
+     * @throws IOException if the snapshot cannot be read
+     * @throws InitialisationException if the file is not a valid snapshot
+     */
+    public static DocumentFile read(Path path, TableLayout tableLayout) throws IOException, InitialisationException {
+        ByteBuffer buffer;
+        boolean mappedPrivately = tableLayout == TableLayout.MAPPED && Files.isWritable(path);
+        try (FileChannel channel = mappedPrivately
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE) : FileChannel.open(path)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new InitialisationException(INVALID_SNAPSHOT_MESSAGE);
+            }
+            buffer = channel.map(mappedPrivately ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY,
+                    0, channel.size());
+        }
+        try {
+            return read(buffer, tableLayout);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new InitialisationException(INVALID_SNAPSHOT_MESSAGE);
+        }
+    }
+
+    private static DocumentFile read(ByteBuffer buffer, TableLayout tableLayout) throws InitialisationException {
+        check(buffer.getInt() == MAGIC_NUMBER && buffer.getInt() == FORMAT_VERSION);
+        List<Tag> tags = readTags(buffer);
+        buffer.position((buffer.position() + BYTES_OF_INTEGER - 1) / BYTES_OF_INTEGER * BYTES_OF_INTEGER);
+        int numberOfDocuments = buffer.getInt();
+        int numberOfEntries = buffer.getInt();
+        check(numberOfDocuments > 0 && numberOfEntries >= 0);
+        //the regions of the columns are only validated, they are not copied
+        IntBuffer accessNumbers = sliceIntegers(buffer, numberOfDocuments);
+        IntBuffer startsOfRows = sliceIntegers(buffer, numberOfDocuments + 1);
+        IntBuffer tagIdsOfEntries = sliceIntegers(buffer, numberOfEntries);
+        IntBuffer valueIdsOfEntries = sliceIntegers(buffer, numberOfEntries);
+        IntBuffer offsetsOfNames = sliceIntegers(buffer, numberOfDocuments + 1);
+        ByteBuffer types = sliceBytes(buffer, numberOfDocuments);
+        ByteBuffer names = sliceBytes(buffer, buffer.remaining());
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            check(accessNumbers.get(ordinal) >= 0 && types.get(ordinal) >= 0
+                    && types.get(ordinal) < DocumentType.values().length);
+        }
+        checkRows(tags, startsOfRows, tagIdsOfEntries, valueIdsOfEntries);
+        checkNames(offsetsOfNames, names);
+        DocumentRows rows = new DocumentRows(startsOfRows, tagIdsOfEntries, valueIdsOfEntries);
+        DocumentTable documentTable = switch (tableLayout) {
+            case DENSE -> new DenseDocumentTable(tags, readNames(offsetsOfNames, names), toArray(accessNumbers),
+                    toArray(types), rows);
+            case SPARSE -> new SparseDocumentTable(tags, readNames(offsetsOfNames, names), toArray(accessNumbers),
+                    toArray(types), new DocumentRows(IntBuffer.wrap(toArray(startsOfRows)),
+                    IntBuffer.wrap(toArray(tagIdsOfEntries)), IntBuffer.wrap(toArray(valueIdsOfEntries))));
+            case MAPPED -> new MappedDocumentTable(tags,
+                    accessNumbers.isReadOnly() ? IntBuffer.wrap(toArray(accessNumbers)) : accessNumbers,
+                    rows, offsetsOfNames, types, names);
+        };
+        return new DocumentFile(tags, documentTable);
+    }
+
+    private static List<Tag> readTags(ByteBuffer buffer) throws InitialisationException {
+        int numberOfTags = buffer.getInt();
+        check(numberOfTags >= 0);
+        List<Tag> tags = new ArrayList<>();
+        Set<String> namesOfTags = new HashSet<>();
+        for (int tagId = 0; tagId < numberOfTags; tagId++) {
+            byte kindOfTag = buffer.get();
+            String name = readString(buffer);
+            int numberOfValues = buffer.getInt();
+            //every value is stored with its length, so the number of values is limited by the remaining bytes
+            check(numberOfValues > 0 && numberOfValues <= buffer.remaining() / BYTES_OF_INTEGER
+                    && namesOfTags.add(name));
+            List<String> values = new ArrayList<>();
+            for (int valueId = 0; valueId < numberOfValues; valueId++) {
+                values.add(readString(buffer));
+            }
+            Tag tag = switch (kindOfTag) {
+                case BINARY_TAG -> new BinaryTag(name);
+                case MULTIVALUE_TAG -> new MultivalueTag(name, values.get(0));
+                case NUMERIC_TAG -> new NumericTag(name, values.get(0));
+                default -> throw new InitialisationException(INVALID_SNAPSHOT_MESSAGE);
+            };
+            values.forEach(tag::addPossibleValue);
+            //the identifiers of the values are their positions, so the restored values must be in the same order
+            check(tag.getName().equals(name) && new ArrayList<>(tag.getPossibleValues()).equals(values)
+                    && values.contains(TAG_UNDEFINED_VALUE));
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    private static void checkRows(List<Tag> tags, IntBuffer startsOfRows, IntBuffer tagIdsOfEntries,
+                                  IntBuffer valueIdsOfEntries) throws InitialisationException {
+        int numberOfDocuments = startsOfRows.limit() - 1;
+        check(startsOfRows.get(0) == 0 && startsOfRows.get(numberOfDocuments) == tagIdsOfEntries.limit());
+        int[] numberOfValues = new int[tags.size()];
+        int[] undefinedValueIds = new int[tags.size()];
+        for (int tagId = 0; tagId < tags.size(); tagId++) {
+            List<String> values = new ArrayList<>(tags.get(tagId).getPossibleValues());
+            numberOfValues[tagId] = values.size();
+            undefinedValueIds[tagId] = values.indexOf(TAG_UNDEFINED_VALUE);
+        }
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            int startOfRow = startsOfRows.get(ordinal);
+            int endOfRow = startsOfRows.get(ordinal + 1);
+            check(startOfRow <= endOfRow);
+            for (int entry = startOfRow; entry < endOfRow; entry++) {
+                int tagId = tagIdsOfEntries.get(entry);
+                int valueId = valueIdsOfEntries.get(entry);
+                //the rows are sorted by the tags and only contain values other than undefined
+                check(tagId >= 0 && tagId < tags.size()
+                        && (entry == startOfRow || tagIdsOfEntries.get(entry - 1) < tagId));
+                check(valueId >= 0 && valueId < numberOfValues[tagId] && valueId != undefinedValueIds[tagId]);
+            }
+        }
+    }
+
+    private static void checkNames(IntBuffer offsetsOfNames, ByteBuffer names) throws InitialisationException {
+        int numberOfDocuments = offsetsOfNames.limit() - 1;
+        check(offsetsOfNames.get(0) == 0 && offsetsOfNames.get(numberOfDocuments) == names.limit());
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            check(offsetsOfNames.get(ordinal) <= offsetsOfNames.get(ordinal + 1));
+        }
+    }
+
+    private static String[] readNames(IntBuffer offsetsOfNames, ByteBuffer names) {
+        String[] namesOfDocuments = new String[offsetsOfNames.limit() - 1];
+        for (int ordinal = 0; ordinal < namesOfDocuments.length; ordinal++) {
+            byte[] name = new byte[offsetsOfNames.get(ordinal + 1) - offsetsOfNames.get(ordinal)];
+            names.get(offsetsOfNames.get(ordinal), name);
+            namesOfDocuments[ordinal] = new String(name, StandardCharsets.UTF_8);
+        }
+        return namesOfDocuments;
+    }
+
+    private static DocumentRows getRows(DocumentTable documentTable) {
+        if (documentTable.getRows() != null) {
+            return documentTable.getRows();
+        }
+        //collect the tags which have been set for every document from the columns
+        int numberOfDocuments = documentTable.getNumberOfDocuments();
+        int[] startsOfRows = new int[numberOfDocuments + 1];
+        List<Integer> tagIdsOfEntries = new ArrayList<>();
+        List<Integer> valueIdsOfEntries = new ArrayList<>();
+        for (int ordinal = 0; ordinal < numberOfDocuments; ordinal++) {
+            startsOfRows[ordinal] = tagIdsOfEntries.size();
+            for (int tagId = 0; tagId < documentTable.getNumberOfTags(); tagId++) {
+                int valueId = documentTable.getValueIdOfDocument(tagId, ordinal);
+                if (valueId != documentTable.getUndefinedValueId(tagId)) {
+                    tagIdsOfEntries.add(tagId);
+                    valueIdsOfEntries.add(valueId);
+                }
+            }
+        }
+        startsOfRows[numberOfDocuments] = tagIdsOfEntries.size();
+        return new DocumentRows(IntBuffer.wrap(startsOfRows),
+                IntBuffer.wrap(tagIdsOfEntries.stream().mapToInt(Integer::intValue).toArray()),
+                IntBuffer.wrap(valueIdsOfEntries.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    private static byte getKindOfTag(Tag tag) {
+        if (tag instanceof NumericTag) {
+            return NUMERIC_TAG;
+        }
+        return tag instanceof MultivalueTag ? MULTIVALUE_TAG : BINARY_TAG;
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws InitialisationException {
+        int length = buffer.getInt();
+        check(length >= 0 && length <= buffer.remaining());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static IntBuffer sliceIntegers(ByteBuffer buffer, int length) throws InitialisationException {
+        check(length >= 0 && (long) length * BYTES_OF_INTEGER <= buffer.remaining());
+        IntBuffer integers = buffer.slice(buffer.position(), length * BYTES_OF_INTEGER).asIntBuffer();
+        buffer.position(buffer.position() + length * BYTES_OF_INTEGER);
+        return integers;
+    }
+
+    private static ByteBuffer sliceBytes(ByteBuffer buffer, int length) {
+        ByteBuffer bytes = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return bytes;
+    }
+
+    private static int[] toArray(IntBuffer buffer) {
+        int[] integers = new int[buffer.limit()];
+        buffer.get(0, integers);
+        return integers;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.limit()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    private static void check(boolean condition) throws InitialisationException {
+        if (!condition) {
+            throw new InitialisationException(INVALID_SNAPSHOT_MESSAGE);
+        }
+    }
+}
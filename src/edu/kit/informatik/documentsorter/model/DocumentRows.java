@@ -0,0 +1,112 @@
+package edu.kit.informatik.documentsorter.model;
+
+import java.nio.IntBuffer;
+
+/**
+ * This class represents the tags which have been set for the documents of a table, one row per document.
+ * The rows are stored one after the other, every row is sorted by the identifiers of the tags.
+ * The rows can either be backed by arrays or by a buffer mapped from a file.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class DocumentRows {
+    private final IntBuffer startsOfRows;
+    private final IntBuffer tagIdsOfEntries;
+    private final IntBuffer valueIdsOfEntries;
+
+    /**
+     * Constructs new rows from the specified buffers.
+     *
+     * @param startsOfRows the index of the first entry of every row followed by the total number of entries
+     * @param tagIdsOfEntries the identifiers of the tags of the entries
+     * @param valueIdsOfEntries the identifiers of the values of the entries
+     */
+    public DocumentRows(IntBuffer startsOfRows, IntBuffer tagIdsOfEntries, IntBuffer valueIdsOfEntries) {
+        this.startsOfRows = startsOfRows;
+        this.tagIdsOfEntries = tagIdsOfEntries;
+        this.valueIdsOfEntries = valueIdsOfEntries;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of documents
+     */
+    public int getNumberOfRows() {
+        return startsOfRows.limit() - 1;
+    }
+
+    /**
+     * Returns the total number of entries of all rows.
+     *
+     * @return the number of set tags of all documents
+     */
+    public int getNumberOfEntries() {
+        return startsOfRows.get(getNumberOfRows());
+    }
+
+    /**
+     * Returns the index of the first entry of the row of the specified document.
+     *
+     * @param ordinal the ordinal of the document
+     * @return the index of the first set tag of the document
+     */
+    public int getStartOfRow(int ordinal) {
+        return startsOfRows.get(ordinal);
+    }
+
+    /**
+     * Returns the index after the last entry of the row of the specified document.
+     *
+     * @param ordinal the ordinal of the document
+     * @return the index after the last set tag of the document
+     */
+    public int getEndOfRow(int ordinal) {
+        return startsOfRows.get(ordinal + 1);
+    }
+
+    /**
+     * Returns the identifier of the tag of the specified entry.
+     *
+     * @param entry the index of the entry
+     * @return the identifier of the set tag
+     */
+    public int getTagIdOfEntry(int entry) {
+        return tagIdsOfEntries.get(entry);
+    }
+
+    /**
+     * Returns the identifier of the value of the specified entry.
+     *
+     * @param entry the index of the entry
+     * @return the identifier of the value of the set tag
+     */
+    public int getValueIdOfEntry(int entry) {
+        return valueIdsOfEntries.get(entry);
+    }
+
+    /**
+     * Searches the row of the specified document for a tag.
+     *
+     * @param ordinal the ordinal of the document
+     * @param tagId the identifier of the tag
+     * @return the index of the entry of the tag or a negative number if the document has not set the tag
+     */
+    public int findEntry(int ordinal, int tagId) {
+        int low = getStartOfRow(ordinal);
+        int high = getEndOfRow(ordinal) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int tagIdOfMiddle = tagIdsOfEntries.get(middle);
+            if (tagIdOfMiddle < tagId) {
+                low = middle + 1;
+            } else if (tagIdOfMiddle > tagId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
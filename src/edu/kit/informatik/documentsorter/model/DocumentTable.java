@@ -0,0 +1,219 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.model.document.DocumentType;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static edu.kit.informatik.documentsorter.command.LoadCommand.TAG_UNDEFINED_VALUE;
+
+/**
+ * This class represents the documents of a file in a columnar layout.
+ * The names and values of the tags are interned into identifiers, the documents are identified by their ordinal.
+ * A tag which has not been set for a document has the identifier of the value {@code UNDEFINED}.
+ * How the values of the documents are stored is up to the subclasses.
+ *
+ * @see DenseDocumentTable
+ * @see SparseDocumentTable
+ * @see MappedDocumentTable
+ * @author uexnb
+ * @version 1.0
+ */
+public abstract class DocumentTable {
+    private static final int NOT_FOUND = -1;
+    private static final DocumentType[] DOCUMENT_TYPES = DocumentType.values();
+    private final Tag[] tags;
+    private final Map<String, Integer> tagIdentifiers;
+    private final String[][] values;
+    private final List<Map<String, Integer>> valueIdentifiers;
+    private final int[] undefinedValueIds;
+    private Map<String, Integer> ordinals;
+
+    /**
+     * Constructs a new document table with the given tags.
+     *
+     * @param tags all tags of the documents with all of their possible values
+     */
+    protected DocumentTable(List<Tag> tags) {
+        this.tags = tags.toArray(new Tag[0]);
+        this.tagIdentifiers = new HashMap<>();
+        this.values = new String[tags.size()][];
+        this.valueIdentifiers = new ArrayList<>();
+        this.undefinedValueIds = new int[tags.size()];
+        for (int tagId = 0; tagId < this.tags.length; tagId++) {
+            tagIdentifiers.put(this.tags[tagId].getName(), tagId);
+            //intern the possible values of the tag, a value is only assigned one identifier
+            Map<String, Integer> identifiersOfValues = new HashMap<>();
+            List<String> distinctValues = new ArrayList<>();
+            for (String value : this.tags[tagId].getPossibleValues()) {
+                if (identifiersOfValues.putIfAbsent(value, distinctValues.size()) == null) {
+                    distinctValues.add(value);
+                }
+            }
+            valueIdentifiers.add(identifiersOfValues);
+            values[tagId] = distinctValues.toArray(new String[0]);
+            undefinedValueIds[tagId] = identifiersOfValues.get(TAG_UNDEFINED_VALUE);
+        }
+    }
+
+    /**
+     * Returns the document type with the specified ordinal.
+     * Protected because the subclasses store the types of the documents as ordinals.
+     *
+     * @param typeOrdinal the ordinal of the document type
+     * @return the document type
+     */
+    protected static DocumentType toDocumentType(int typeOrdinal) {
+        return DOCUMENT_TYPES[typeOrdinal];
+    }
+
+    /**
+     * Returns the number of documents in the table.
+     *
+     * @return the number of documents
+     */
+    public abstract int getNumberOfDocuments();
+
+    /**
+     * Returns the name of the document with the specified ordinal.
+     *
+     * @param ordinal the ordinal of the document
+     * @return the name of the document
+     */
+    public abstract String getName(int ordinal);
+
+    /**
+     * Returns the access number of the document with the specified ordinal.
+     *
+     * @param ordinal the ordinal of the document
+     * @return the access number of the document
+     */
+    public abstract int getAccessNumber(int ordinal);
+
+    /**
+     * Returns the type of the document with the specified ordinal.
+     *
+     * @param ordinal the ordinal of the document
+     * @return the type of the document
+     */
+    public abstract DocumentType getDocumentType(int ordinal);
+
+    /**
+     * Sets the access number of the document with the specified ordinal.
+     *
+     * @param ordinal the ordinal of the document
+     * @param accessNumber the new access number of the document
+     */
+    public abstract void setAccessNumber(int ordinal, int accessNumber);
+
+    /**
+     * Returns the identifier of the value of the specified tag for a document.
+     *
+     * @param tagId the identifier of the tag
+     * @param ordinal the ordinal of the document
+     * @return the identifier of the value
+     */
+    public abstract int getValueIdOfDocument(int tagId, int ordinal);
+
+    /**
+     * Returns the rows of the tags which have been set for the documents, if the table stores its values in rows.
+     * A tag which is not in the row of a document has the value {@code UNDEFINED}.
+     *
+     * @return the rows of the set tags or {@code null} if the values are stored in a column per tag
+     */
+    public DocumentRows getRows() {
+        return null;
+    }
+
+    /**
+     * Returns the ordinal of the first document with the specified name.
+     * The documents are indexed by their names the first time this method is called.
+     *
+     * @param documentName the name of the document
+     * @return the ordinal of the document or {@code -1} if there is no document with this name
+     */
+    public int getOrdinal(String documentName) {
+        if (ordinals == null) {
+            ordinals = new HashMap<>();
+            for (int ordinal = 0; ordinal < getNumberOfDocuments(); ordinal++) {
+                //the first document with a name is the one which is referenced by the name
+                ordinals.putIfAbsent(getName(ordinal), ordinal);
+            }
+        }
+        return ordinals.getOrDefault(documentName, NOT_FOUND);
+    }
+
+    /**
+     * Returns the number of tags in the table.
+     *
+     * @return the number of tags
+     */
+    public int getNumberOfTags() {
+        return tags.length;
+    }
+
+    /**
+     * Returns the tag with the specified identifier.
+     *
+     * @param tagId the identifier of the tag
+     * @return the tag with all of its possible values
+     */
+    public Tag getTag(int tagId) {
+        return tags[tagId];
+    }
+
+    /**
+     * Returns the identifier of the tag with the specified name.
+     *
+     * @param tagName the name of the tag
+     * @return the identifier of the tag or {@code -1} if there is no tag with this name
+     */
+    public int getTagId(String tagName) {
+        return tagIdentifiers.getOrDefault(tagName, NOT_FOUND);
+    }
+
+    /**
+     * Returns the number of distinct values of the tag with the specified identifier.
+     *
+     * @param tagId the identifier of the tag
+     * @return the number of distinct values of the tag
+     */
+    public int getNumberOfValues(int tagId) {
+        return values[tagId].length;
+    }
+
+    /**
+     * Returns the value with the specified identifier of a tag.
+     *
+     * @param tagId the identifier of the tag
+     * @param valueId the identifier of the value
+     * @return the value
+     */
+    public String getValue(int tagId, int valueId) {
+        return values[tagId][valueId];
+    }
+
+    /**
+     * Returns the identifier of the specified value of a tag.
+     *
+     * @param tagId the identifier of the tag
+     * @param value the value
+     * @return the identifier of the value or {@code -1} if it is not a possible value of the tag
+     */
+    public int getValueId(int tagId, String value) {
+        return valueIdentifiers.get(tagId).getOrDefault(value, NOT_FOUND);
+    }
+
+    /**
+     * Returns the identifier of the value {@code UNDEFINED} of the specified tag.
+     *
+     * @param tagId the identifier of the tag
+     * @return the identifier of the value of a document which has not set the tag
+     */
+    public int getUndefinedValueId(int tagId) {
+        return undefinedValueIds[tagId];
+    }
+}
@@ -4,9 +4,13 @@ import edu.kit.informatik.documentsorter.model.tree.DirectoryTree;
 import edu.kit.informatik.documentsorter.model.tree.Path;
 import edu.kit.informatik.documentsorter.model.tree.TreeNode;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
 
 /**
  * This class represents the document sorter which sorts the documents of a file in an
@@ -17,16 +21,31 @@ import java.util.List;
  */
 public class FilingFinesse {
     private static final String FILE_SEPARATOR = "/";
+    private static final int SEQUENTIAL_PARALLELISM = 1;
+    private static final int DEFAULT_CACHE_SIZE = 16;
+    private static final int DEFAULT_OUTPUT_CACHE_LIMIT = 100000;
+    private static final int DEFAULT_LOAD_CHUNK_SIZE = 1 << 23;
 
     private final List<DocumentFile> allDocumentFiles;
 
     private DirectoryTree directoryTree;
+    private DirectoryTreeCache directoryTreeCache;
+    private ForkJoinPool forkJoinPool;
+    private int forkThreshold;
+    private int parallelEvaluationThreshold;
+    private int outputCacheLimit;
+    private int loadChunkSize;
+    private TableLayout tableLayout;
 
     /**
      * Constructs a new document sorter.
      */
     public FilingFinesse() {
         allDocumentFiles = new ArrayList<>();
+        directoryTreeCache = new DirectoryTreeCache(DEFAULT_CACHE_SIZE);
+        outputCacheLimit = DEFAULT_OUTPUT_CACHE_LIMIT;
+        loadChunkSize = DEFAULT_LOAD_CHUNK_SIZE;
+        tableLayout = TableLayout.DENSE;
     }
 
     /**
@@ -49,14 +68,230 @@ public class FilingFinesse {
 
     /**
      * Generates the directory tree for the specified input file.
+     * If the tree of the file has already been generated, only the parts of the tree which are affected
+     * by the access numbers changed since then are generated again.
      *
      * @param documentFile the document file to be sorted
      */
     public void generateDirectoryTree(DocumentFile documentFile) {
-        TreeNode root = new TreeNode(documentFile.getAllTags(), documentFile.getDocuments(), new Path(FILE_SEPARATOR,
-                0, 0, null));
+        DirectoryTree existingTree = directoryTreeCache.getDirectoryTree(documentFile);
+        if (existingTree != null) {
+            //the outdated nodes are evaluated again, so their tags are evaluated by the pool of the tree as well
+            List<TreeNode> subtreesToGenerate = forkJoinPool == null ? existingTree.updateTree()
+                    : forkJoinPool.invoke(ForkJoinTask.adapt(existingTree::updateTree));
+            subtreesToGenerate.forEach(this::generateSubtree);
+            directoryTree = existingTree;
+            return;
+        }
+        TreeNode root = createRoot(documentFile.getDocumentTable());
         directoryTree = new DirectoryTree(root);
-        directoryTree.generateTree();
+        if (forkJoinPool == null) {
+            directoryTree.generateTree();
+        } else {
+            root.setParallelEvaluationThreshold(parallelEvaluationThreshold);
+            directoryTree.generateTree(forkJoinPool, forkThreshold);
+        }
+        directoryTreeCache.putDirectoryTree(documentFile, directoryTree);
+    }
+
+    private static TreeNode createRoot(DocumentTable documentTable) {
+        int[] allTags = IntStream.range(0, documentTable.getNumberOfTags()).toArray();
+        int[] allDocuments = IntStream.range(0, documentTable.getNumberOfDocuments()).toArray();
+        return new TreeNode(documentTable, allTags, allDocuments, 0, allDocuments.length,
+                new Path(FILE_SEPARATOR, 0, 0, null));
+    }
+
+    private static TreeNode createPartialRoot(DocumentTable documentTable) {
+        //the information gains of a partial tree are never printed, so only the best split of a node is kept
+        TreeNode root = createRoot(documentTable);
+        root.setInformationGainsListed(false);
+        return root;
+    }
+
+    /**
+     * Writes the output of the directory tree for the specified input file to the specified output.
+     * If the file has not been changed since the last output has been rendered, the cached output is written.
+     * Otherwise the directory tree is generated and its output is rendered. The output is only cached for
+     * files with at most as many documents as the output cache limit, the output of larger files is streamed
+     * directly and rendered again for every request.
+     *
+     * @param documentFile the document file to be sorted
+     * @param output the output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeDirectoryTreeOutput(DocumentFile documentFile, Appendable output) throws IOException {
+        String cachedOutput = directoryTreeCache.getOutput(documentFile);
+        if (cachedOutput != null) {
+            directoryTree = directoryTreeCache.getDirectoryTree(documentFile);
+            output.append(cachedOutput);
+            return;
+        }
+        generateDirectoryTree(documentFile);
+        if (documentFile.getDocumentTable().getNumberOfDocuments() > outputCacheLimit) {
+            directoryTree.writeOutput(output);
+            return;
+        }
+        String renderedOutput = directoryTree.getOutput();
+        directoryTreeCache.putOutput(documentFile, renderedOutput);
+        output.append(renderedOutput);
+    }
+
+    /**
+     * Writes the first paths to the documents of the directory tree for the specified input file to the specified
+     * output, ordered by the likelihood of the paths.
+     * If the tree of the file is cached, it is updated and its paths are written. Otherwise, a new tree is
+     * generated lazily while its paths are written, so only the subtrees containing the written paths are evaluated.
+     * Such a partial tree is not cached.
+     *
+     * @param documentFile the document file to be sorted
+     * @param output the output to write to
+     * @param limit the maximum number of paths to write
+     * @throws IOException if the output cannot be written
+     */
+    public void writeDocumentPaths(DocumentFile documentFile, Appendable output, int limit) throws IOException {
+        if (directoryTreeCache.getDirectoryTree(documentFile) != null) {
+            generateDirectoryTree(documentFile);
+            directoryTree.writeDocumentPaths(output, limit);
+            return;
+        }
+        new DirectoryTree(createPartialRoot(documentFile.getDocumentTable())).writeDocumentPaths(output, limit);
+    }
+
+    /**
+     * Returns the path to the specified document in the directory tree of the specified input file.
+     * If the tree of the file is cached, it is updated and the path is taken from it. Otherwise, only the nodes
+     * on the path to the document are evaluated. Such a partial tree is not cached.
+     *
+     * @param documentFile the document file containing the document
+     * @param ordinal the ordinal of the document in the file
+     * @return the path to the document, exactly as it is part of the output of the directory tree
+     */
+    public String locateDocument(DocumentFile documentFile, int ordinal) {
+        String documentName = documentFile.getDocumentTable().getName(ordinal);
+        if (directoryTreeCache.getDirectoryTree(documentFile) != null) {
+            generateDirectoryTree(documentFile);
+            return directoryTree.getDocumentPath(ordinal, documentName);
+        }
+        return new DirectoryTree(createPartialRoot(documentFile.getDocumentTable()))
+                .getDocumentPath(ordinal, documentName);
+    }
+
+    /**
+     * Sets the maximum number of document files whose directory trees and outputs are cached.
+     * If there are more files, the least recently used ones are evicted from the cache.
+     *
+     * @param cacheSize the maximum number of cached document files
+     */
+    public void setCacheSize(int cacheSize) {
+        directoryTreeCache = new DirectoryTreeCache(cacheSize);
+    }
+
+    /**
+     * Sets the maximum number of documents of a file whose rendered output is cached.
+     * A cached output is held on the heap as a whole, its size grows with the number of documents of the file.
+     * The outputs of larger files are streamed without being held in memory, but rendered for every request.
+     *
+     * @param outputCacheLimit the maximum number of documents of a file whose output is cached
+     */
+    public void setOutputCacheLimit(int outputCacheLimit) {
+        this.outputCacheLimit = outputCacheLimit;
+    }
+
+    private void generateSubtree(TreeNode node) {
+        if (forkJoinPool == null) {
+            node.generateTree();
+        } else {
+            node.generateTree(forkJoinPool, forkThreshold);
+        }
+    }
+
+    /**
+     * Changes the access number of a document of the specified file.
+     * The version of the file is increased and the nodes of the directory tree of the file
+     * which contain the document are marked as outdated.
+     *
+     * @param documentFile the file containing the document
+     * @param ordinal the ordinal of the document in the file
+     * @param accessNumber the new access number of the document
+     */
+    public void changeAccessNumber(DocumentFile documentFile, int ordinal, int accessNumber) {
+        DocumentTable documentTable = documentFile.getDocumentTable();
+        if (documentTable.getAccessNumber(ordinal) == accessNumber) {
+            return;
+        }
+        documentTable.setAccessNumber(ordinal, accessNumber);
+        documentFile.increaseVersion();
+        DirectoryTree directoryTreeOfFile = directoryTreeCache.getDirectoryTree(documentFile);
+        if (directoryTreeOfFile != null) {
+            directoryTreeOfFile.markOutdated(ordinal);
+        }
+    }
+
+    /**
+     * Sets the number of threads which generate the directory trees.
+     * With a parallelism of one the trees are generated sequentially by the calling thread,
+     * otherwise the subtrees with at least as many documents as the threshold are generated in parallel.
+     * Within a node the tags are evaluated in parallel if the node has at least as many documents as the
+     * evaluation threshold.
+     *
+     * @param parallelism the number of threads which generate the directory trees
+     * @param forkThreshold the minimum number of documents of a subtree for which a new task is forked
+     * @param parallelEvaluationThreshold the minimum number of documents of a node for which its tags
+     *      are evaluated in parallel
+     */
+    public void setParallelism(int parallelism, int forkThreshold, int parallelEvaluationThreshold) {
+        if (forkJoinPool != null) {
+            forkJoinPool.shutdown();
+        }
+        this.forkJoinPool = parallelism > SEQUENTIAL_PARALLELISM ? new ForkJoinPool(parallelism) : null;
+        this.forkThreshold = forkThreshold;
+        this.parallelEvaluationThreshold = parallelEvaluationThreshold;
+    }
+
+    /**
+     * Returns the pool of the threads working in parallel.
+     *
+     * @return the fork/join pool or {@code null} if the document sorter works sequentially
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Sets the minimum number of bytes of a chunk of a document file which is parsed in parallel.
+     * Files with at most this many bytes are parsed sequentially.
+     *
+     * @param loadChunkSize the minimum number of bytes of a chunk
+     */
+    public void setLoadChunkSize(int loadChunkSize) {
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    /**
+     * Returns the minimum number of bytes of a chunk of a document file which is parsed in parallel.
+     *
+     * @return the minimum number of bytes of a chunk
+     */
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    /**
+     * Sets the layout of the tables storing the documents of the files loaded from now on.
+     *
+     * @param tableLayout the layout of the tables
+     */
+    public void setTableLayout(TableLayout tableLayout) {
+        this.tableLayout = tableLayout;
+    }
+
+    /**
+     * Returns the layout of the tables storing the documents of loaded files.
+     *
+     * @return the layout of the tables
+     */
+    public TableLayout getTableLayout() {
+        return tableLayout;
     }
 
     /**
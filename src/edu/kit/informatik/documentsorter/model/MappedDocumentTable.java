@@ -0,0 +1,157 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.model.document.DocumentType;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * This class represents a document table whose documents stay in a snapshot mapped into memory.
+ * Only the tags with their values are held on the heap. The names, access numbers, types and set tags of the
+ * documents are read from the mapped snapshot when they are needed, so the number of documents which can be
+ * kept loaded is not limited by the heap. A tag which has not been set for a document has the value
+ * {@code UNDEFINED}, just like in a sparse table.
+ * The documents are looked up by their names with an open addressing table of ordinals, which is hashed and
+ * compared with the encoded names in the mapped snapshot, so the names are not decoded to be looked up.
+ *
+ * @see DocumentFileSnapshot
+ * @see SparseDocumentTable
+ * @author uexnb
+ * @version 1.0
+ */
+public class MappedDocumentTable extends DocumentTable {
+    private static final int EMPTY_SLOT = 0;
+    private static final int NOT_FOUND = -1;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int MAXIMUM_NUMBER_OF_SLOTS = 1 << 30;
+    private final IntBuffer accessNumbers;
+    private final DocumentRows rows;
+    private final IntBuffer offsetsOfNames;
+    private final ByteBuffer types;
+    private final ByteBuffer names;
+    private int[] slotsOfNames;
+
+    /**
+     * Constructs a new table reading the documents from the specified regions of a mapped snapshot.
+     * The access numbers are changed in place, so their region has to be writable without changing the snapshot.
+     * Package-private because it is used in {@link DocumentFileSnapshot}.
+     *
+     * @param tags all tags of the documents with all of their possible values
+     * @param accessNumbers the access numbers of the documents
+     * @param rows the set tags of the documents
+     * @param offsetsOfNames the offset of the name of every document followed by the total length of the names
+     * @param types the ordinals of the types of the documents
+     * @param names the names of all documents encoded in UTF-8
+     */
+    MappedDocumentTable(List<Tag> tags, IntBuffer accessNumbers, DocumentRows rows, IntBuffer offsetsOfNames,
+                        ByteBuffer types, ByteBuffer names) {
+        super(tags);
+        this.accessNumbers = accessNumbers;
+        this.rows = rows;
+        this.offsetsOfNames = offsetsOfNames;
+        this.types = types;
+        this.names = names;
+    }
+
+    @Override
+    public int getNumberOfDocuments() {
+        return accessNumbers.limit();
+    }
+
+    @Override
+    public String getName(int ordinal) {
+        //the name is decoded every time, so only the names which are printed are ever held on the heap
+        int offsetOfName = offsetsOfNames.get(ordinal);
+        byte[] name = new byte[offsetsOfNames.get(ordinal + 1) - offsetOfName];
+        names.get(offsetOfName, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the ordinal of the first document with the specified name.
+     * The ordinals are indexed by the hashes of the encoded names the first time this method is called,
+     * the index does not hold any names.
+     *
+     * @param documentName the name of the document
+     * @return the ordinal of the document or {@code -1} if there is no document with this name
+     */
+    @Override
+    public int getOrdinal(String documentName) {
+        if (slotsOfNames == null) {
+            slotsOfNames = indexNames();
+        }
+        ByteBuffer name = ByteBuffer.wrap(documentName.getBytes(StandardCharsets.UTF_8));
+        int mask = slotsOfNames.length - 1;
+        for (int slot = hash(name) & mask; slotsOfNames[slot] != EMPTY_SLOT; slot = (slot + 1) & mask) {
+            int ordinal = slotsOfNames[slot] - 1;
+            if (getEncodedName(ordinal).equals(name)) {
+                return ordinal;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private int[] indexNames() {
+        //at most half of the slots are used, so the probe sequences stay short
+        long minimumNumberOfSlots = Math.max(2L * getNumberOfDocuments(), 1);
+        long numberOfSlots = Long.highestOneBit(2 * minimumNumberOfSlots - 1);
+        //a slot holds the ordinal of a document plus one, so the empty slots are the ones which are still zero
+        int[] slots = new int[(int) Math.min(numberOfSlots, MAXIMUM_NUMBER_OF_SLOTS)];
+        int mask = slots.length - 1;
+        for (int ordinal = 0; ordinal < getNumberOfDocuments(); ordinal++) {
+            ByteBuffer name = getEncodedName(ordinal);
+            int slot = hash(name) & mask;
+            //the first document with a name is the one which is referenced by the name
+            while (slots[slot] != EMPTY_SLOT && !getEncodedName(slots[slot] - 1).equals(name)) {
+                slot = (slot + 1) & mask;
+            }
+            if (slots[slot] == EMPTY_SLOT) {
+                slots[slot] = ordinal + 1;
+            }
+        }
+        return slots;
+    }
+
+    private ByteBuffer getEncodedName(int ordinal) {
+        int offsetOfName = offsetsOfNames.get(ordinal);
+        return names.slice(offsetOfName, offsetsOfNames.get(ordinal + 1) - offsetOfName);
+    }
+
+    private static int hash(ByteBuffer name) {
+        int hash = 1;
+        for (int i = 0; i < name.limit(); i++) {
+            hash = HASH_MULTIPLIER * hash + name.get(i);
+        }
+        //spread the higher bits to the lower ones, which select the slot
+        return hash ^ (hash >>> Short.SIZE);
+    }
+
+    @Override
+    public int getAccessNumber(int ordinal) {
+        return accessNumbers.get(ordinal);
+    }
+
+    @Override
+    public DocumentType getDocumentType(int ordinal) {
+        return toDocumentType(types.get(ordinal));
+    }
+
+    @Override
+    public void setAccessNumber(int ordinal, int accessNumber) {
+        accessNumbers.put(ordinal, accessNumber);
+    }
+
+    @Override
+    public int getValueIdOfDocument(int tagId, int ordinal) {
+        int entry = rows.findEntry(ordinal, tagId);
+        return entry < 0 ? getUndefinedValueId(tagId) : rows.getValueIdOfEntry(entry);
+    }
+
+    @Override
+    public DocumentRows getRows() {
+        return rows;
+    }
+}
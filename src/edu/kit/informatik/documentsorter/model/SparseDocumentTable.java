@@ -0,0 +1,132 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.model.document.Document;
+import edu.kit.informatik.documentsorter.model.document.DocumentType;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents a document table which only stores the tags that have been set for a document.
+ * The set tags of all documents are stored one row after the other, every row is sorted by the identifiers
+ * of the tags. A tag which is not in the row of a document implicitly has the value {@code UNDEFINED}, so the
+ * memory only depends on the number of set tags and not on the number of documents times the number of tags.
+ *
+ * @see DocumentTable
+ * @author uexnb
+ * @version 1.0
+ */
+public class SparseDocumentTable extends DocumentTable {
+    private static final int BITS_OF_INTEGER = Integer.SIZE;
+    private final String[] names;
+    private final int[] accessNumbers;
+    private final byte[] types;
+    private final DocumentRows rows;
+
+    /**
+     * Constructs a new sparse document table with the given tags and documents.
+     *
+     * @param tags all tags of the documents with all of their possible values
+     * @param documents the documents of the table
+     */
+    public SparseDocumentTable(List<Tag> tags, List<Document> documents) {
+        super(tags);
+        this.names = new String[documents.size()];
+        this.accessNumbers = new int[documents.size()];
+        this.types = new byte[documents.size()];
+        int[] startsOfRows = new int[documents.size() + 1];
+        int numberOfEntries = 0;
+        for (Document document : documents) {
+            numberOfEntries += document.getTags().size();
+        }
+        int[] tagIdsOfEntries = new int[numberOfEntries];
+        int[] valueIdsOfEntries = new int[numberOfEntries];
+        int entry = 0;
+        for (int ordinal = 0; ordinal < names.length; ordinal++) {
+            Document document = documents.get(ordinal);
+            names[ordinal] = document.getName();
+            accessNumbers[ordinal] = document.getAccessNumber();
+            types[ordinal] = (byte) document.getType().ordinal();
+            startsOfRows[ordinal] = entry;
+            //sort the row by the tag identifiers, the position of the tag in the document is kept in the lower bits
+            List<Tag> tagsOfDocument = document.getTags();
+            long[] row = new long[tagsOfDocument.size()];
+            for (int position = 0; position < row.length; position++) {
+                row[position] = ((long) getTagId(tagsOfDocument.get(position).getName()) << BITS_OF_INTEGER) | position;
+            }
+            Arrays.sort(row);
+            for (int i = 0; i < row.length; i++) {
+                int tagId = (int) (row[i] >>> BITS_OF_INTEGER);
+                //if a tag is set twice, the last value counts like in a dense table
+                if (i + 1 < row.length && (int) (row[i + 1] >>> BITS_OF_INTEGER) == tagId) {
+                    continue;
+                }
+                int valueId = getValueId(tagId, tagsOfDocument.get((int) row[i]).getValue());
+                if (valueId != getUndefinedValueId(tagId)) { //undefined values are implicit
+                    tagIdsOfEntries[entry] = tagId;
+                    valueIdsOfEntries[entry] = valueId;
+                    entry++;
+                }
+            }
+        }
+        startsOfRows[names.length] = entry;
+        this.rows = new DocumentRows(IntBuffer.wrap(startsOfRows), IntBuffer.wrap(tagIdsOfEntries, 0, entry),
+                IntBuffer.wrap(valueIdsOfEntries, 0, entry));
+    }
+
+    /**
+     * Constructs a new sparse document table from the rows of the set tags of the documents.
+     * Package-private because it is used in {@link DocumentFileSnapshot}.
+     *
+     * @param tags all tags of the documents with all of their possible values
+     * @param names the names of the documents
+     * @param accessNumbers the access numbers of the documents
+     * @param types the ordinals of the types of the documents
+     * @param rows the set tags of the documents
+     */
+    SparseDocumentTable(List<Tag> tags, String[] names, int[] accessNumbers, byte[] types, DocumentRows rows) {
+        super(tags);
+        this.names = names;
+        this.accessNumbers = accessNumbers;
+        this.types = types;
+        this.rows = rows;
+    }
+
+    @Override
+    public int getNumberOfDocuments() {
+        return names.length;
+    }
+
+    @Override
+    public String getName(int ordinal) {
+        return names[ordinal];
+    }
+
+    @Override
+    public int getAccessNumber(int ordinal) {
+        return accessNumbers[ordinal];
+    }
+
+    @Override
+    public DocumentType getDocumentType(int ordinal) {
+        return toDocumentType(types[ordinal]);
+    }
+
+    @Override
+    public void setAccessNumber(int ordinal, int accessNumber) {
+        accessNumbers[ordinal] = accessNumber;
+    }
+
+    @Override
+    public int getValueIdOfDocument(int tagId, int ordinal) {
+        int entry = rows.findEntry(ordinal, tagId);
+        return entry < 0 ? getUndefinedValueId(tagId) : rows.getValueIdOfEntry(entry);
+    }
+
+    @Override
+    public DocumentRows getRows() {
+        return rows;
+    }
+}
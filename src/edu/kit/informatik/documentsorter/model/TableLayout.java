@@ -0,0 +1,29 @@
+package edu.kit.informatik.documentsorter.model;
+
+/**
+ * This enum represents how the values of the tags of the documents of a file are stored.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public enum TableLayout {
+    /**
+     * The value of every tag is stored for every document.
+     *
+     * @see DenseDocumentTable
+     */
+    DENSE,
+    /**
+     * Only the values of the tags which have been set for a document are stored.
+     *
+     * @see SparseDocumentTable
+     */
+    SPARSE,
+    /**
+     * The documents of a snapshot stay in the mapped snapshot and are only read when they are needed.
+     * The documents of a file which has to be parsed are stored like in the sparse layout.
+     *
+     * @see MappedDocumentTable
+     */
+    MAPPED;
+}
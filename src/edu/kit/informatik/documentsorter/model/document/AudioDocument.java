@@ -84,4 +84,9 @@ public class AudioDocument extends Document {
         return new AudioDocument(getName(), getTags(), getAccessNumber());
     }
 
+    @Override
+    public DocumentType getType() {
+        return DocumentType.AUDIO;
+    }
+
 }
@@ -16,7 +16,6 @@ public abstract class Document implements Comparable<Document> {
     private final String name;
     private final List<Tag> tags;
     private int accessNumber;
-    private double currentProbability;
     /**
      * Constructs a new document with the given name, tags and number of hits.
      *
@@ -28,7 +27,6 @@ public abstract class Document implements Comparable<Document> {
         this.name = name;
         this.tags = modifyTag(tags);
         this.accessNumber = accessNumber;
-        this.currentProbability = 0;
     }
     /**
      * Modifies specific tags depending on the document type.
@@ -55,14 +53,6 @@ public abstract class Document implements Comparable<Document> {
         return Collections.unmodifiableList(tags);
     }
 
-    /**
-     * Adds a tag to the list of tags of the document.
-     *
-     * @param tag the tag to add
-     */
-    public void addTag(Tag tag) {
-        tags.add(tag);
-    }
     /**
      * Returns the access number of the document.
      *
@@ -79,22 +69,6 @@ public abstract class Document implements Comparable<Document> {
     public void setAccessNumber(int accessNumber) {
         this.accessNumber = accessNumber;
     }
-    /**
-     * Returns the current probability of choosing this document.
-     *
-     * @return the current probability of the document
-     */
-    public double getCurrentProbability() {
-        return currentProbability;
-    }
-    /**
-     * Sets the current probability of choosing this document.
-     *
-     * @param currentProbability the current probability of the document
-     */
-    public void setCurrentProbability(double currentProbability) {
-        this.currentProbability = currentProbability;
-    }
 
     /**
      * Returns a copy of the document.
@@ -103,6 +77,13 @@ public abstract class Document implements Comparable<Document> {
      */
     public abstract Document copy();
 
+    /**
+     * Returns the type of the document.
+     *
+     * @return the type of the document
+     */
+    public abstract DocumentType getType();
+
     @Override
     public int compareTo(Document other) {
         return this.name.compareTo(other.name);
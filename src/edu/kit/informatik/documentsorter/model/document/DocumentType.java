@@ -0,0 +1,30 @@
+package edu.kit.informatik.documentsorter.model.document;
+
+/**
+ * This enum represents the types of documents in the file system.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public enum DocumentType {
+    /**
+     * The type of an {@link AudioDocument}.
+     */
+    AUDIO,
+    /**
+     * The type of an {@link ImageDocument}.
+     */
+    IMAGE,
+    /**
+     * The type of a {@link ProgramDocument}.
+     */
+    PROGRAM,
+    /**
+     * The type of a {@link TextDocument}.
+     */
+    TEXT,
+    /**
+     * The type of a {@link VideoDocument}.
+     */
+    VIDEO;
+}
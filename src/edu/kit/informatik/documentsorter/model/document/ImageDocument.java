@@ -72,4 +72,9 @@ public class ImageDocument extends Document {
         return new ImageDocument(getName(), getTags(), getAccessNumber());
     }
 
+    @Override
+    public DocumentType getType() {
+        return DocumentType.IMAGE;
+    }
+
 }
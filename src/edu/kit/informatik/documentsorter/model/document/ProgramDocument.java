@@ -33,4 +33,9 @@ public class ProgramDocument extends Document {
     public Document copy() {
         return new ProgramDocument(getName(), getTags(), getAccessNumber());
     }
+
+    @Override
+    public DocumentType getType() {
+        return DocumentType.PROGRAM;
+    }
 }
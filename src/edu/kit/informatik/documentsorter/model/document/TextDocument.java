@@ -71,4 +71,9 @@ public class TextDocument extends Document {
     public Document copy() {
         return new TextDocument(getName(), getTags(), getAccessNumber());
     }
+
+    @Override
+    public DocumentType getType() {
+        return DocumentType.TEXT;
+    }
 }
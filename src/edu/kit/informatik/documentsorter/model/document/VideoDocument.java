@@ -70,4 +70,9 @@ public class VideoDocument extends Document {
     public Document copy() {
         return new VideoDocument(getName(), getTags(), getAccessNumber());
     }
+
+    @Override
+    public DocumentType getType() {
+        return DocumentType.VIDEO;
+    }
 }
@@ -0,0 +1,63 @@
+package edu.kit.informatik.documentsorter.model.metrics;
+
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * This class represents the flight recorder event of a loaded document file or snapshot.
+ * The duration of the event is the time of loading the file.
+ * If no flight recording is running, the event is neither filled nor committed, so it costs almost nothing.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.documentsorter.FileLoaded")
+@Label("File Loaded")
+@Description("A document file or a snapshot of a document file has been loaded")
+@Category("Document Sorter")
+public class FileLoadedEvent extends jdk.jfr.Event {
+    private static final long UNKNOWN_SIZE = -1;
+    @Label("Path")
+    private String path;
+    @Label("Snapshot")
+    @Description("Whether the file is a binary snapshot")
+    private boolean snapshot;
+    @Label("Rows")
+    @Description("The number of documents of the file")
+    private int rows;
+    @Label("Tags")
+    @Description("The number of tags of the file")
+    private int tags;
+    @Label("Bytes")
+    @Description("The size of the file, -1 if it is unknown")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Sets the loaded file.
+     *
+     * @param path the path of the loaded file
+     * @param documentFile the loaded document file
+     * @param snapshot whether the file is a snapshot
+     */
+    public void set(Path path, DocumentFile documentFile, boolean snapshot) {
+        this.path = path.toString();
+        this.snapshot = snapshot;
+        this.rows = documentFile.getDocumentTable().getNumberOfDocuments();
+        this.tags = documentFile.getAllTags().size();
+        try {
+            this.bytes = Files.size(path);
+        } catch (IOException e) {
+            //the file has been read already, the size is only missing if it has been removed in the meantime
+            this.bytes = UNKNOWN_SIZE;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package edu.kit.informatik.documentsorter.model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class represents the flight recorder event of a node of a directory tree whose possible splits have been
+ * evaluated. The duration of the event is the time of the evaluation.
+ * If no flight recording is running, the event is neither filled nor committed, so it costs almost nothing.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.documentsorter.NodeSplitEvaluated")
+@Label("Node Split Evaluated")
+@Description("The possible splits of a node of a directory tree have been evaluated")
+@Category({"Document Sorter", "Directory Tree"})
+public class NodeSplitEvaluatedEvent extends jdk.jfr.Event {
+    @Label("Depth")
+    @Description("The depth of the node in the directory tree")
+    private int depth;
+    @Label("Documents")
+    @Description("The number of documents of the node")
+    private int documents;
+    @Label("Tags")
+    @Description("The number of tags which are candidates for the split")
+    private int tags;
+    @Label("Chosen Tag")
+    @Description("The name of the tag the node is split by, missing if the node is a leaf")
+    private String chosenTag;
+    @Label("Information Gain")
+    @Description("The information gain of the chosen tag, zero if the node is a leaf")
+    private double informationGain;
+
+    /**
+     * Sets the evaluated node and the result of the evaluation.
+     *
+     * @param depth the depth of the node
+     * @param documents the number of documents of the node
+     * @param tags the number of candidate tags
+     * @param chosenTag the name of the chosen tag or {@code null} if the node is a leaf
+     * @param informationGain the information gain of the chosen tag
+     */
+    public void set(int depth, int documents, int tags, String chosenTag, double informationGain) {
+        this.depth = depth;
+        this.documents = documents;
+        this.tags = tags;
+        this.chosenTag = chosenTag;
+        this.informationGain = informationGain;
+    }
+}
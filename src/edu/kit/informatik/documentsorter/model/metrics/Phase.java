@@ -0,0 +1,70 @@
+package edu.kit.informatik.documentsorter.model.metrics;
+
+/**
+ * This enum represents the phases of a command whose costs are measured by {@link PhaseMetrics}.
+ * Phases may be nested, for example the inference is part of the parsing and a tree which is generated lazily
+ * evaluates its splits while it is rendered.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public enum Phase {
+    /**
+     * The whole execution of a command including the output of its result.
+     */
+    COMMAND("command", false),
+    /**
+     * Reading a file and creating its documents, or reading a snapshot.
+     */
+    PARSE("parse", false),
+    /**
+     * Inferring the tags of a document from its type while it is created.
+     */
+    INFERENCE("inference", false),
+    /**
+     * Merging the tags of the parsed chunks of a file into one schema.
+     */
+    SCHEMA_MERGE("schema-merge", false),
+    /**
+     * Building the table storing the documents of a file.
+     */
+    TABLE_CONSTRUCTION("table-construction", false),
+    /**
+     * Evaluating the possible splits of a node, measured per depth of the node.
+     */
+    SPLIT_EVALUATION("split-evaluation", true),
+    /**
+     * Reordering the documents of a node into the subsets of its children.
+     */
+    PARTITIONING("partitioning", true),
+    /**
+     * Writing the output of a directory tree.
+     */
+    RENDERING("rendering", false);
+
+    private final String name;
+    private final boolean measuredPerDepth;
+
+    Phase(String name, boolean measuredPerDepth) {
+        this.name = name;
+        this.measuredPerDepth = measuredPerDepth;
+    }
+
+    /**
+     * Returns the name of the phase as it is printed.
+     *
+     * @return the name of the phase
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns whether the phase is measured separately for every depth of the directory tree.
+     *
+     * @return whether the phase is measured per depth
+     */
+    public boolean isMeasuredPerDepth() {
+        return measuredPerDepth;
+    }
+}
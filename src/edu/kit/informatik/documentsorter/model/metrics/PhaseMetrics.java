@@ -0,0 +1,172 @@
+package edu.kit.informatik.documentsorter.model.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class measures the elapsed time, the cpu time and the allocated bytes of the phases of the commands.
+ * A phase is measured by calling {@link #start()} before and {@link #stop(Measurement, Phase)} after it. If the
+ * metrics are disabled, {@link #start()} returns {@code null} without reading any clock and stopping it does
+ * nothing, so the measured code does not get slower.
+ * The cpu time and the allocated bytes are the ones of the measuring thread, the work which a phase hands over
+ * to other threads, like the parallel evaluation of the tags of a node, is only contained in its elapsed time.
+ * The measurements are accumulated until they are collected, which is done after every command.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class PhaseMetrics {
+    private static final String UTILITY_CLASS_CONSTRUCTOR_MESSAGE = "Utility classes cannot be instantiated";
+    private static final int NO_DEPTH = 0;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS
+            = THREADS instanceof com.sun.management.ThreadMXBean allocations ? allocations : null;
+    private static final Map<Phase, Map<Integer, Accumulator>> ACCUMULATORS = createAccumulators();
+    //only changed before the first command is executed, so reading it needs no synchronisation
+    private static boolean enabled = false;
+
+    private PhaseMetrics() {
+        throw new UnsupportedOperationException(UTILITY_CLASS_CONSTRUCTOR_MESSAGE);
+    }
+
+    private static Map<Phase, Map<Integer, Accumulator>> createAccumulators() {
+        Map<Phase, Map<Integer, Accumulator>> accumulators = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            accumulators.put(phase, new ConcurrentHashMap<>());
+        }
+        return accumulators;
+    }
+
+    /**
+     * Enables or disables the measurement of the phases.
+     * This must only be called before the first command is executed.
+     *
+     * @param enabled whether the phases are measured
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled && THREADS.isThreadCpuTimeSupported()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+        if (enabled && ALLOCATIONS != null && ALLOCATIONS.isThreadAllocatedMemorySupported()) {
+            ALLOCATIONS.setThreadAllocatedMemoryEnabled(true);
+        }
+        PhaseMetrics.enabled = enabled;
+    }
+
+    /**
+     * Returns whether the phases are measured.
+     *
+     * @return whether the phases are measured
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts the measurement of a phase on the current thread.
+     *
+     * @return the started measurement or {@code null} if the metrics are disabled
+     */
+    public static Measurement start() {
+        return enabled ? new Measurement() : null;
+    }
+
+    /**
+     * Stops the measurement of a phase which is not measured per depth and adds it to the totals of the phase.
+     *
+     * @param measurement the measurement started on the current thread, may be {@code null}
+     * @param phase the measured phase
+     */
+    public static void stop(Measurement measurement, Phase phase) {
+        stop(measurement, phase, NO_DEPTH);
+    }
+
+    /**
+     * Stops the measurement of a phase and adds it to the totals of the phase at the specified depth.
+     *
+     * @param measurement the measurement started on the current thread, may be {@code null}
+     * @param phase the measured phase
+     * @param depth the depth of the measured node
+     */
+    public static void stop(Measurement measurement, Phase phase, int depth) {
+        if (measurement == null) {
+            return;
+        }
+        long wallTime = System.nanoTime() - measurement.wallTime;
+        long cpuTime = getCpuTime() - measurement.cpuTime;
+        long allocatedBytes = getAllocatedBytes() - measurement.allocatedBytes;
+        ACCUMULATORS.get(phase)
+                .computeIfAbsent(phase.isMeasuredPerDepth() ? depth : NO_DEPTH, key -> new Accumulator())
+                .add(wallTime, cpuTime, allocatedBytes);
+    }
+
+    /**
+     * Returns the totals of all phases measured since the last collection and resets them.
+     * The statistics are ordered by the phase and the depth.
+     *
+     * @return the statistics of the measured phases
+     */
+    public static List<PhaseStatistics> collect() {
+        List<PhaseStatistics> statistics = new ArrayList<>();
+        for (Map.Entry<Phase, Map<Integer, Accumulator>> phase : ACCUMULATORS.entrySet()) {
+            for (Map.Entry<Integer, Accumulator> depth : new TreeMap<>(phase.getValue()).entrySet()) {
+                Accumulator accumulator = depth.getValue();
+                long count = accumulator.count.sumThenReset();
+                if (count > 0) {
+                    statistics.add(new PhaseStatistics(phase.getKey(), depth.getKey(), count,
+                            accumulator.wallTime.sumThenReset(), accumulator.cpuTime.sumThenReset(),
+                            accumulator.allocatedBytes.sumThenReset()));
+                }
+            }
+        }
+        return statistics;
+    }
+
+    private static long getCpuTime() {
+        return THREADS.isThreadCpuTimeEnabled() ? THREADS.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long getAllocatedBytes() {
+        return ALLOCATIONS != null && ALLOCATIONS.isThreadAllocatedMemoryEnabled()
+                ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * This class represents the started measurement of a phase on a thread.
+     *
+     * @author uexnb
+     * @version 1.0
+     */
+    public static final class Measurement {
+        private final long wallTime;
+        private final long cpuTime;
+        private final long allocatedBytes;
+
+        private Measurement() {
+            this.wallTime = System.nanoTime();
+            this.cpuTime = getCpuTime();
+            this.allocatedBytes = getAllocatedBytes();
+        }
+    }
+
+    private static final class Accumulator {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder wallTime = new LongAdder();
+        private final LongAdder cpuTime = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private void add(long wallTimeOfMeasurement, long cpuTimeOfMeasurement, long allocatedBytesOfMeasurement) {
+            count.increment();
+            wallTime.add(wallTimeOfMeasurement);
+            cpuTime.add(cpuTimeOfMeasurement);
+            allocatedBytes.add(allocatedBytesOfMeasurement);
+        }
+    }
+}
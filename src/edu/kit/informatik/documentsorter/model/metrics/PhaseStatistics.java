@@ -0,0 +1,116 @@
+package edu.kit.informatik.documentsorter.model.metrics;
+
+import java.util.Locale;
+
+/**
+ * This class represents the accumulated costs of a phase of a command.
+ * The times and the allocated bytes are summed up over all measurements of the phase, so phases measured on
+ * several threads may take more time than the whole command.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class PhaseStatistics {
+    private static final String TEXT_FORMAT = "%s: %d times, %.3f ms wall, %.3f ms cpu, %d bytes allocated";
+    private static final String DEPTH_FORMAT = "%s depth %d";
+    private static final String JSON_FORMAT = "{\"phase\":\"%s\",%s\"count\":%d,\"wallNanos\":%d,\"cpuNanos\":%d,"
+            + "\"allocatedBytes\":%d}";
+    private static final String JSON_DEPTH_FORMAT = "\"depth\":%d,";
+    private static final double NANOSECONDS_PER_MILLISECOND = 1_000_000d;
+    private final Phase phase;
+    private final int depth;
+    private final long count;
+    private final long wallTime;
+    private final long cpuTime;
+    private final long allocatedBytes;
+
+    /**
+     * Constructs new statistics of a phase.
+     *
+     * @param phase the measured phase
+     * @param depth the depth of the measured nodes, ignored if the phase is not measured per depth
+     * @param count the number of measurements
+     * @param wallTime the elapsed time in nanoseconds
+     * @param cpuTime the cpu time of the measuring threads in nanoseconds
+     * @param allocatedBytes the number of bytes allocated by the measuring threads
+     */
+    public PhaseStatistics(Phase phase, int depth, long count, long wallTime, long cpuTime, long allocatedBytes) {
+        this.phase = phase;
+        this.depth = depth;
+        this.count = count;
+        this.wallTime = wallTime;
+        this.cpuTime = cpuTime;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Returns the measured phase.
+     *
+     * @return the measured phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Returns the depth of the measured nodes.
+     *
+     * @return the depth of the measured nodes
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of measurements of the phase.
+     *
+     * @return the number of measurements
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the elapsed time of the phase in nanoseconds.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Returns the cpu time of the phase in nanoseconds, or zero if the cpu time of threads cannot be measured.
+     *
+     * @return the cpu time in nanoseconds
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * Returns the number of bytes allocated in the phase, or zero if the allocations of threads cannot be measured.
+     *
+     * @return the number of allocated bytes
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the statistics as a JSON object.
+     *
+     * @return the statistics as a JSON object
+     */
+    public String toJson() {
+        String depthField = phase.isMeasuredPerDepth() ? JSON_DEPTH_FORMAT.formatted(depth) : "";
+        return JSON_FORMAT.formatted(phase.getName(), depthField, count, wallTime, cpuTime, allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        String name = phase.isMeasuredPerDepth() ? DEPTH_FORMAT.formatted(phase.getName(), depth) : phase.getName();
+        return String.format(Locale.ROOT, TEXT_FORMAT, name, count, wallTime / NANOSECONDS_PER_MILLISECOND,
+                cpuTime / NANOSECONDS_PER_MILLISECOND, allocatedBytes);
+    }
+}
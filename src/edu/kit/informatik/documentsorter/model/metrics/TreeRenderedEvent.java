@@ -0,0 +1,39 @@
+package edu.kit.informatik.documentsorter.model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class represents the flight recorder event of a directory tree whose output has been written.
+ * The duration of the event is the time of writing the output, including the evaluation of the nodes of a tree
+ * which is generated while it is written.
+ * If no flight recording is running, the event is neither filled nor committed, so it costs almost nothing.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.documentsorter.TreeRendered")
+@Label("Tree Rendered")
+@Description("The output of a directory tree has been written")
+@Category({"Document Sorter", "Directory Tree"})
+public class TreeRenderedEvent extends jdk.jfr.Event {
+    @Label("Paths")
+    @Description("The number of written paths to documents")
+    private int paths;
+    @Label("Information Gains Written")
+    @Description("Whether the information gains of the nodes have been written as well")
+    private boolean informationGainsWritten;
+
+    /**
+     * Sets the written output.
+     *
+     * @param paths the number of written paths to documents
+     * @param informationGainsWritten whether the information gains of the nodes have been written
+     */
+    public void set(int paths, boolean informationGainsWritten) {
+        this.paths = paths;
+        this.informationGainsWritten = informationGainsWritten;
+    }
+}
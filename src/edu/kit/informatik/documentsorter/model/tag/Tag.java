@@ -2,10 +2,10 @@ package edu.kit.informatik.documentsorter.model.tag;
 
 import edu.kit.informatik.documentsorter.command.LoadCommand;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 
 
 /**
@@ -17,7 +17,7 @@ import java.util.Objects;
 public abstract class Tag implements Comparable<Tag> {
     private String name;
     private String value;
-    private final List<String> possibleValues;
+    private final Set<String> possibleValues;
     /**
      * Constructs a new generic tag with the given name and value.
      *
@@ -27,7 +27,7 @@ public abstract class Tag implements Comparable<Tag> {
     protected Tag(String name, String value) {
         this.name = name.toLowerCase();
         this.value = value;
-        this.possibleValues = new ArrayList<>();
+        this.possibleValues = new LinkedHashSet<>();
         possibleValues.add(value);
         possibleValues.add(LoadCommand.TAG_UNDEFINED_VALUE);
     }
@@ -68,12 +68,12 @@ public abstract class Tag implements Comparable<Tag> {
         this.value = value;
     }
     /**
-     * Returns the possible values of a tag with this name.
+     * Returns the possible values of a tag with this name in the order they have been added.
      *
      * @return the possible values of a tag with this name
      */
-    public List<String> getPossibleValues() {
-        return Collections.unmodifiableList(possibleValues);
+    public Set<String> getPossibleValues() {
+        return Collections.unmodifiableSet(possibleValues);
     }
     /**
      * Adds a possible value to the tag.
@@ -81,9 +81,7 @@ public abstract class Tag implements Comparable<Tag> {
      * @param value the value to add
      */
     public void addPossibleValue(String value) {
-        if (!possibleValues.contains(value)) {
-            possibleValues.add(value);
-        }
+        possibleValues.add(value);
     }
     /**
      * Returns a copy of the tag.
@@ -0,0 +1,56 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+/**
+ * This class computes binary logarithms of the access numbers of documents, which are the only logarithms needed
+ * to evaluate the splits of a node.
+ * The logarithms of the small access numbers, which are the most common ones, are computed once and looked up
+ * afterwards. Every entry of the table is exactly the value the computation returns for its number,
+ * so the entropies do not depend on the size of the table.
+ * The table holds {@code log2(c)} instead of {@code c * log2(c)}: the product is a single multiplication,
+ * and the same table serves the logarithms of the accumulated access numbers of the subsets.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public final class BinaryLogarithm {
+    private static final String UTILITY_CLASS_CONSTRUCTOR_MESSAGE = "Utility classes cannot be instantiated";
+    private static final double LOGARITHM_OF_TWO = Math.log(2);
+    private static final int NUMBER_OF_CACHED_LOGARITHMS = 1 << 12;
+    private static final double[] CACHED_LOGARITHMS = new double[NUMBER_OF_CACHED_LOGARITHMS];
+
+    static {
+        for (int value = 0; value < NUMBER_OF_CACHED_LOGARITHMS; value++) {
+            CACHED_LOGARITHMS[value] = compute(value);
+        }
+    }
+
+    private BinaryLogarithm() {
+        throw new UnsupportedOperationException(UTILITY_CLASS_CONSTRUCTOR_MESSAGE);
+    }
+
+    private static double compute(long value) {
+        return Math.log(value) / LOGARITHM_OF_TWO;
+    }
+
+    /**
+     * Returns the binary logarithm of the specified number.
+     *
+     * @param value the number, must not be negative
+     * @return the binary logarithm of the number, negative infinity for zero
+     */
+    public static double of(long value) {
+        return value < NUMBER_OF_CACHED_LOGARITHMS ? CACHED_LOGARITHMS[(int) value] : compute(value);
+    }
+
+    /**
+     * Returns the specified number multiplied by its binary logarithm, that is the summand of a document
+     * with this access number in the entropy of a set of documents.
+     * The limit of this product for zero is zero, so a number of zero yields zero instead of NaN.
+     *
+     * @param value the number, must not be negative
+     * @return the number multiplied by its binary logarithm
+     */
+    public static double weighted(int value) {
+        return value == 0 ? 0 : value * of(value);
+    }
+}
@@ -1,10 +1,13 @@
 package edu.kit.informatik.documentsorter.model.tree;
 
-import edu.kit.informatik.documentsorter.model.document.Document;
+import edu.kit.informatik.documentsorter.model.metrics.Phase;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
+import edu.kit.informatik.documentsorter.model.metrics.TreeRenderedEvent;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -14,8 +17,9 @@ import java.util.List;
  * @version 1.0
  */
 public class DirectoryTree {
-    private static final String DOCUMENT_NAME_FORMAT = "\"%s\"";
     private static final String OUTPUT_SEPARATOR = "---" + System.lineSeparator();
+    private static final int ALL_DOCUMENT_PATHS = Integer.MAX_VALUE;
+    private static final char DOCUMENT_NAME_DELIMITER = '"';
     private final TreeNode root;
 
     /**
@@ -35,80 +39,167 @@ public class DirectoryTree {
         root.generateTree();
     }
 
+    /**
+     * Generates the directory tree with the specified root node in parallel.
+     *
+     * @param forkJoinPool the pool to generate the subtrees in
+     * @param forkThreshold the minimum number of documents of a subtree for which a new task is forked
+     */
+    public void generateTree(ForkJoinPool forkJoinPool, int forkThreshold) {
+        root.generateTree(forkJoinPool, forkThreshold);
+    }
+
+    /**
+     * Marks the nodes on the path to the specified document as outdated.
+     *
+     * @param ordinal the ordinal of the document whose access number has been changed
+     */
+    public void markOutdated(int ordinal) {
+        root.markOutdated(ordinal);
+    }
+
+    /**
+     * Updates the outdated nodes of the directory tree.
+     * The returned subtrees have been replaced and still have to be generated.
+     *
+     * @return the roots of the subtrees which have to be generated again
+     */
+    public List<TreeNode> updateTree() {
+        List<TreeNode> subtreesToGenerate = new ArrayList<>();
+        root.update(subtreesToGenerate);
+        return subtreesToGenerate;
+    }
+
     /**
      * Returns the required output of the directory tree.
      *
      * @return the output of the directory tree
      */
     public String getOutput() {
-        return getFirstPartOfOutput()
-                + OUTPUT_SEPARATOR
-                + getSecondPartOfOutput();
+        StringBuilder output = new StringBuilder();
+        try {
+            writeOutput(output);
+        } catch (IOException e) {
+            //appending to a string builder does not throw an exception
+            throw new IllegalStateException(e);
+        }
+        return output.toString();
     }
 
-    private String getFirstPartOfOutput() {
+    /**
+     * Writes the required output of the directory tree to the specified output without building
+     * the whole output in memory first.
+     *
+     * @param output the output to write to, for example a buffered writer
+     * @throws IOException if the output cannot be written
+     */
+    public void writeOutput(Appendable output) throws IOException {
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        TreeRenderedEvent event = new TreeRenderedEvent();
+        event.begin();
+        writeFirstPartOfOutput(output);
+        output.append(OUTPUT_SEPARATOR);
+        int numberOfPaths = writeSecondPartOfOutput(output);
+        PhaseMetrics.stop(measurement, Phase.RENDERING);
+        commitEvent(event, numberOfPaths, true);
+    }
+
+    private void writeFirstPartOfOutput(Appendable output) throws IOException {
         //prints the information gain of the nodes in the tree
-        StringBuilder output = new StringBuilder(getPathsAndInformationGain(root));
-        if (!output.toString().isEmpty()) {
+        if (!root.isLeaf()) {
+            writePathsAndInformationGain(root, output);
             output.append(System.lineSeparator());
         }
-        return output.toString();
     }
 
-    private String getPathsAndInformationGain(TreeNode node) {
-        StringBuilder output = new StringBuilder();
-        if (!node.isLeaf()) {
-            // Add copies of all potential paths to the list
-            List<Path> pathsAtTheSameNode = node.getPotentialPathsSortedByInformationGain().stream()
-                    .map(Path::copy)
-                    .toList();
-            //append all the tags of the paths with their information gain to the output
-            for (Path path : pathsAtTheSameNode) {
-                if (!output.isEmpty()) {
-                    output.append(System.lineSeparator());
-                }
-                output.append(path.getInformationGainAsString());
+    private void writePathsAndInformationGain(TreeNode node, Appendable output) throws IOException {
+        //append all the tags of the paths with their information gain to the output
+        List<Path> pathsAtTheSameNode = node.getPotentialPathsSortedByInformationGain();
+        for (int i = 0; i < pathsAtTheSameNode.size(); i++) {
+            if (i > 0) {
+                output.append(System.lineSeparator());
+            }
+            output.append(pathsAtTheSameNode.get(i).getInformationGainAsString());
+        }
+        //proceed recursively for the remaining tree
+        for (TreeNode child : node.getChildren()) {
+            if (!child.isLeaf()) {
+                output.append(System.lineSeparator());
+                writePathsAndInformationGain(child, output);
             }
-            //proceed recursively for the remaining tree
-            node.getChildren().stream()
-                    .filter(child -> !child.isLeaf())
-                    .map(this::getPathsAndInformationGain)
-                    .forEach(child -> output.append(System.lineSeparator()).append(child));
         }
-        return output.toString();
     }
 
-    private String getSecondPartOfOutput() {
+    private int writeSecondPartOfOutput(Appendable output) throws IOException {
         //prints the paths to the documents ordered by the likelihood of the path
-        return getPathsToDocument(root);
+        return writePaths(output, ALL_DOCUMENT_PATHS);
     }
+
     /**
-     * Returns the paths to the documents ordered by the likelihood of the path.
+     * Returns the path to the specified document, exactly as it is part of the output of the tree.
+     * Only the nodes on the path to the document are evaluated if the tree has not been generated before,
+     * every other subtree is skipped.
      *
-     * @return the paths to the documents ordered by the likelihood of the path
+     * @param ordinal the ordinal of the document
+     * @param documentName the name of the document
+     * @return the path to the document
      */
-    private String getPathsToDocument(TreeNode node) {
-        StringBuilder result = new StringBuilder();
-        if (node.isLeaf()) {
-            //sort remaining documents lexikographically
-            List<Document> documents = new ArrayList<>(node.getRemainingDocuments());
-            Collections.sort(documents);
-            for (Document document : documents) { //append the path to the document to the output
-                result.append(node.getCurrentPath())
-                        .append(String.format(DOCUMENT_NAME_FORMAT, document.getName()));
-                if (documents.indexOf(document) != documents.size() - 1) {
-                    result.append(System.lineSeparator());
-                }
-            }
-        } else { //proceed to the child with the highest likelihood
-            for (TreeNode child : node.getChildren()) {
-                result.append(getPathsToDocument(child));
-                if (node.getChildren().indexOf(child) != node.getChildren().size() - 1) {
-                    result.append(System.lineSeparator());
-                }
+    public String getDocumentPath(int ordinal, String documentName) {
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        TreeRenderedEvent event = new TreeRenderedEvent();
+        event.begin();
+        StringBuilder path = new StringBuilder(root.getCurrentPath().getName());
+        TreeNode node = root;
+        node.addChildrenIfNotEvaluated();
+        while (!node.isLeaf()) {
+            node = node.getChildContaining(ordinal);
+            node.getCurrentPath().appendTagTo(path);
+            node.addChildrenIfNotEvaluated();
+        }
+        path.append(DOCUMENT_NAME_DELIMITER).append(documentName).append(DOCUMENT_NAME_DELIMITER);
+        PhaseMetrics.stop(measurement, Phase.RENDERING);
+        commitEvent(event, 1, false);
+        return path.toString();
+    }
+
+    /**
+     * Writes the paths to the documents ordered by the likelihood of the path to the specified output, but at most
+     * the specified number of paths.
+     * The nodes of the tree are only evaluated when the path to their documents is written, so the subtrees
+     * after the last written path are never evaluated if the tree has not been generated before.
+     *
+     * @param output the output to write to
+     * @param limit the maximum number of paths to write
+     * @throws IOException if the output cannot be written
+     */
+    public void writeDocumentPaths(Appendable output, int limit) throws IOException {
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        TreeRenderedEvent event = new TreeRenderedEvent();
+        event.begin();
+        int numberOfPaths = writePaths(output, limit);
+        PhaseMetrics.stop(measurement, Phase.RENDERING);
+        commitEvent(event, numberOfPaths, false);
+    }
+
+    private int writePaths(Appendable output, int limit) throws IOException {
+        DocumentPathIterator documentPaths = new DocumentPathIterator(root);
+        int numberOfPaths = 0;
+        while (numberOfPaths < limit && documentPaths.hasNext()) {
+            if (numberOfPaths > 0) {
+                output.append(System.lineSeparator());
             }
+            output.append(documentPaths.next());
+            numberOfPaths++;
+        }
+        return numberOfPaths;
+    }
+
+    private static void commitEvent(TreeRenderedEvent event, int numberOfPaths, boolean informationGainsWritten) {
+        //the event is only filled if a flight recording is running and records it
+        if (event.shouldCommit()) {
+            event.set(numberOfPaths, informationGainsWritten);
+            event.commit();
         }
-        return result.toString();
     }
 
 }
@@ -0,0 +1,106 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class represents an iterator over the paths to the documents of a directory tree.
+ * The paths are returned in the order of the output, that is the leaves ordered by the likelihood of their paths
+ * and the documents of a leaf ordered lexicographically by their names.
+ * All paths are built in one reused buffer, so a returned path is only valid until the next call of {@link #next()}.
+ * The nodes of the tree which have not been evaluated yet are evaluated when they are visited, so the iterator
+ * can also be used to generate the tree lazily.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class DocumentPathIterator implements Iterator<CharSequence> {
+    private static final char DOCUMENT_NAME_DELIMITER = '"';
+    private final StringBuilder path;
+    private final Deque<Frame> nodesToVisit;
+    private String[] documentNamesOfLeaf;
+    private int indexInLeaf;
+    private int lengthOfLeafPath;
+
+    /**
+     * Constructs a new iterator over the paths to the documents of the tree with the specified root.
+     *
+     * @param root the root of the tree
+     */
+    public DocumentPathIterator(TreeNode root) {
+        this.path = new StringBuilder(root.getCurrentPath().getName());
+        this.nodesToVisit = new ArrayDeque<>();
+        this.documentNamesOfLeaf = new String[0];
+        root.addChildrenIfNotEvaluated();
+        if (root.isLeaf()) {
+            enterLeaf(root);
+        } else {
+            nodesToVisit.push(new Frame(root, path.length()));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (indexInLeaf == documentNamesOfLeaf.length) {
+            if (!advanceToNextLeaf()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CharSequence next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        path.setLength(lengthOfLeafPath);
+        path.append(DOCUMENT_NAME_DELIMITER)
+                .append(documentNamesOfLeaf[indexInLeaf++])
+                .append(DOCUMENT_NAME_DELIMITER);
+        return path;
+    }
+
+    private boolean advanceToNextLeaf() {
+        while (!nodesToVisit.isEmpty()) {
+            Frame frame = nodesToVisit.peek();
+            if (frame.indexOfNextChild == frame.node.getChildren().size()) {
+                nodesToVisit.pop();
+                continue;
+            }
+            //the path of the child is the path of its parent followed by the tag of the child
+            TreeNode child = frame.node.getChildren().get(frame.indexOfNextChild++);
+            path.setLength(frame.lengthOfPath);
+            child.getCurrentPath().appendTagTo(path);
+            child.addChildrenIfNotEvaluated();
+            if (child.isLeaf()) {
+                enterLeaf(child);
+                return true;
+            }
+            nodesToVisit.push(new Frame(child, path.length()));
+        }
+        return false;
+    }
+
+    private void enterLeaf(TreeNode leaf) {
+        //sort remaining documents lexikographically
+        documentNamesOfLeaf = leaf.getRemainingDocumentNames();
+        Arrays.sort(documentNamesOfLeaf);
+        indexInLeaf = 0;
+        lengthOfLeafPath = path.length();
+    }
+
+    private static final class Frame {
+        private final TreeNode node;
+        private final int lengthOfPath;
+        private int indexOfNextChild;
+
+        private Frame(TreeNode node, int lengthOfPath) {
+            this.node = node;
+            this.lengthOfPath = lengthOfPath;
+        }
+    }
+}
@@ -18,7 +18,8 @@ import static edu.kit.informatik.documentsorter.command.LoadCommand.TAG_UNDEFINE
 public class Path implements Comparable<Path> {
 
     private static final String INFORMATION_GAIN_FORMAT = "%s=%.2f";
-    private static final String TAG_FORMAT = "%s=%s/";
+    private static final char TAG_VALUE_SEPARATOR = '=';
+    private static final char TAG_SEPARATOR = '/';
     private final String name;
     private final Tag currentTag;
     private final double informationGain;
@@ -100,10 +101,24 @@ public class Path implements Comparable<Path> {
      * @return a string representation of the path
      */
     public String getTagAsString() {
+        StringBuilder path = new StringBuilder(name);
+        appendTagTo(path);
+        return path.toString();
+    }
+
+    /**
+     * Appends the current tag with the correct format to the specified path, without the previous path.
+     *
+     * @param path the path to append the tag to
+     */
+    public void appendTagTo(StringBuilder path) {
+        path.append(currentTag.getName()).append(TAG_VALUE_SEPARATOR);
         if (currentTag.getValue().equals(TAG_UNDEFINED_VALUE)) { //values should be lowercase
-            return String.format(TAG_FORMAT, name + currentTag.getName(), currentTag.getValue().toLowerCase());
+            path.append(currentTag.getValue().toLowerCase());
+        } else {
+            path.append(currentTag.getValue());
         }
-        return String.format(TAG_FORMAT, name + currentTag.getName(), currentTag.getValue());
+        path.append(TAG_SEPARATOR);
     }
     @Override
     public String toString() {
@@ -0,0 +1,205 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+import edu.kit.informatik.documentsorter.model.DocumentRows;
+import edu.kit.informatik.documentsorter.model.DocumentTable;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * This class evaluates the possible splits of a node in the directory tree.
+ * The access numbers of the documents of the node are accumulated per tag and tag value by a single
+ * pass over the column of every tag, so that the uncertainty of every tag can be derived from these totals.
+ * The probability of a document is its access number relative to the access numbers of the evaluated documents,
+ * so the evaluation does not depend on any state of the documents other than their access numbers.
+ * For a table storing its values in rows only the set tags of the documents are visited, the totals of the value
+ * {@code UNDEFINED} are the totals of the node minus the totals of all other values. The rows are evaluated
+ * sequentially: every row holds entries of several tags, so splitting the work by tags would visit every row once
+ * per thread.
+ * The entropies are computed from the integer access numbers as {@code log2(N) - sum(a * log2(a)) / N}, so only
+ * the logarithms of access numbers are needed, which are looked up by {@link BinaryLogarithm}.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class SplitEvaluator {
+    private static final int NOT_EVALUATED = -1;
+    private final DocumentTable documentTable;
+    private final int[] tagIds;
+    private final long[][] accessNumbers;
+    private final double[][] weightedLogarithms;
+    private final int[][] numberOfDocuments;
+    private long accumulatedAccessNumber;
+    private double accumulatedWeightedLogarithm;
+    private int numberOfDocumentsWithoutAccesses;
+
+    /**
+     * Constructs a new split evaluator for the specified tags.
+     *
+     * @param documentTable the table containing the documents
+     * @param tagIds the identifiers of the tags which are candidates for the split
+     */
+    public SplitEvaluator(DocumentTable documentTable, int[] tagIds) {
+        this.documentTable = documentTable;
+        this.tagIds = tagIds.clone();
+        this.accessNumbers = new long[tagIds.length][];
+        this.weightedLogarithms = new double[tagIds.length][];
+        this.numberOfDocuments = new int[tagIds.length][];
+        for (int tagIndex = 0; tagIndex < tagIds.length; tagIndex++) {
+            int numberOfValues = documentTable.getNumberOfValues(tagIds[tagIndex]);
+            accessNumbers[tagIndex] = new long[numberOfValues];
+            weightedLogarithms[tagIndex] = new double[numberOfValues];
+            numberOfDocuments[tagIndex] = new int[numberOfValues];
+        }
+    }
+
+    /**
+     * Accumulates the access numbers of the specified documents for every tag and tag value.
+     *
+     * @param ordinals the ordinals of the documents
+     * @param from the start of the range of the documents of the node (inclusive)
+     * @param to the end of the range of the documents of the node (exclusive)
+     * @param parallel whether the tags are evaluated in parallel by the pool of the calling thread,
+     *                 ignored for tables storing their values in rows
+     */
+    public void evaluate(int[] ordinals, int from, int to, boolean parallel) {
+        int numberOfDocumentsOfNode = to - from;
+        int[] accessNumbersOfDocuments = new int[numberOfDocumentsOfNode];
+        double[] weightedLogarithmsOfDocuments = new double[numberOfDocumentsOfNode];
+        for (int i = 0; i < numberOfDocumentsOfNode; i++) {
+            int accessNumber = documentTable.getAccessNumber(ordinals[from + i]);
+            accessNumbersOfDocuments[i] = accessNumber;
+            weightedLogarithmsOfDocuments[i] = BinaryLogarithm.weighted(accessNumber);
+            if (accessNumber == 0) {
+                numberOfDocumentsWithoutAccesses++;
+            }
+            accumulatedAccessNumber += accessNumber;
+            accumulatedWeightedLogarithm += weightedLogarithmsOfDocuments[i];
+        }
+        DocumentRows rows = documentTable.getRows();
+        if (rows != null) {
+            evaluateRows(rows, ordinals, from, accessNumbersOfDocuments, weightedLogarithmsOfDocuments);
+            return;
+        }
+        //every tag only writes its own totals, so the tags can be evaluated independently of each other
+        IntStream tagIndices = IntStream.range(0, tagIds.length);
+        (parallel ? tagIndices.parallel() : tagIndices).forEach(tagIndex ->
+                evaluateTag(tagIndex, ordinals, from, accessNumbersOfDocuments, weightedLogarithmsOfDocuments));
+    }
+
+    private void evaluateTag(int tagIndex, int[] ordinals, int from, int[] accessNumbersOfDocuments,
+                             double[] weightedLogarithmsOfDocuments) {
+        int tagId = tagIds[tagIndex];
+        long[] accessNumbersOfTag = accessNumbers[tagIndex];
+        double[] weightedLogarithmsOfTag = weightedLogarithms[tagIndex];
+        int[] numberOfDocumentsOfTag = numberOfDocuments[tagIndex];
+        for (int i = 0; i < accessNumbersOfDocuments.length; i++) {
+            int valueId = documentTable.getValueIdOfDocument(tagId, ordinals[from + i]);
+            accessNumbersOfTag[valueId] += accessNumbersOfDocuments[i];
+            weightedLogarithmsOfTag[valueId] += weightedLogarithmsOfDocuments[i];
+            numberOfDocumentsOfTag[valueId]++;
+        }
+    }
+
+    private void evaluateRows(DocumentRows rows, int[] ordinals, int from,
+                              int[] accessNumbersOfDocuments, double[] weightedLogarithmsOfDocuments) {
+        int[] tagIndices = new int[documentTable.getNumberOfTags()];
+        Arrays.fill(tagIndices, NOT_EVALUATED);
+        for (int tagIndex = 0; tagIndex < tagIds.length; tagIndex++) {
+            tagIndices[tagIds[tagIndex]] = tagIndex;
+        }
+        for (int i = 0; i < accessNumbersOfDocuments.length; i++) {
+            int ordinal = ordinals[from + i];
+            for (int entry = rows.getStartOfRow(ordinal); entry < rows.getEndOfRow(ordinal); entry++) {
+                int tagIndex = tagIndices[rows.getTagIdOfEntry(entry)];
+                if (tagIndex != NOT_EVALUATED) {
+                    int valueId = rows.getValueIdOfEntry(entry);
+                    accessNumbers[tagIndex][valueId] += accessNumbersOfDocuments[i];
+                    weightedLogarithms[tagIndex][valueId] += weightedLogarithmsOfDocuments[i];
+                    numberOfDocuments[tagIndex][valueId]++;
+                }
+            }
+        }
+        //the documents which have not set a tag are the remaining documents of the node
+        for (int tagIndex = 0; tagIndex < tagIds.length; tagIndex++) {
+            int undefinedValueId = documentTable.getUndefinedValueId(tagIds[tagIndex]);
+            long accessNumberOfUndefined = accumulatedAccessNumber;
+            double weightedLogarithmOfUndefined = accumulatedWeightedLogarithm;
+            int numberOfUndefined = accessNumbersOfDocuments.length;
+            for (int valueId = 0; valueId < accessNumbers[tagIndex].length; valueId++) {
+                if (valueId != undefinedValueId) {
+                    accessNumberOfUndefined -= accessNumbers[tagIndex][valueId];
+                    weightedLogarithmOfUndefined -= weightedLogarithms[tagIndex][valueId];
+                    numberOfUndefined -= numberOfDocuments[tagIndex][valueId];
+                }
+            }
+            accessNumbers[tagIndex][undefinedValueId] = accessNumberOfUndefined;
+            weightedLogarithms[tagIndex][undefinedValueId] = weightedLogarithmOfUndefined;
+            numberOfDocuments[tagIndex][undefinedValueId] = numberOfUndefined;
+        }
+    }
+
+    /**
+     * Returns whether at least one of the evaluated documents has an access number of zero.
+     *
+     * @return whether a document of the node has never been accessed
+     */
+    public boolean hasDocumentWithoutAccesses() {
+        return numberOfDocumentsWithoutAccesses > 0;
+    }
+
+    /**
+     * Returns the entropy of the evaluated documents.
+     *
+     * @return the entropy of the documents of the node
+     */
+    public double getEntropy() {
+        //entropy of the node: log2(N) - sum(a * log2(a)) / N
+        return BinaryLogarithm.of(accumulatedAccessNumber) - accumulatedWeightedLogarithm / accumulatedAccessNumber;
+    }
+
+    /**
+     * Returns the uncertainty of the tag with the specified index, that is the entropy of the subsets
+     * weighted with the likelihood of each subset.
+     *
+     * @param tagIndex the index of the tag in the evaluated tags
+     * @return the uncertainty of the tag
+     */
+    public double getUncertainty(int tagIndex) {
+        double uncertainty = 0;
+        for (int valueId = 0; valueId < accessNumbers[tagIndex].length; valueId++) {
+            long accessNumberOfSubset = accessNumbers[tagIndex][valueId];
+            //a subset which has never been accessed has a likelihood of zero and does not add to the uncertainty
+            if (accessNumberOfSubset == 0) {
+                continue;
+            }
+            //entropy of the subset: log2(S) - sum(a * log2(a)) / S
+            double entropyOfSubset = BinaryLogarithm.of(accessNumberOfSubset)
+                    - weightedLogarithms[tagIndex][valueId] / accessNumberOfSubset;
+            uncertainty += getLikelihood(tagIndex, valueId) * entropyOfSubset;
+        }
+        return uncertainty;
+    }
+
+    /**
+     * Returns the likelihood of a document of the node being in the subset with the specified tag value.
+     *
+     * @param tagIndex the index of the tag in the evaluated tags
+     * @param valueId the identifier of the value
+     * @return the likelihood of the subset
+     */
+    public double getLikelihood(int tagIndex, int valueId) {
+        return accessNumbers[tagIndex][valueId] / ((double) accumulatedAccessNumber);
+    }
+
+    /**
+     * Returns the number of documents of the node in the subset with the specified tag value.
+     *
+     * @param tagIndex the index of the tag in the evaluated tags
+     * @param valueId the identifier of the value
+     * @return the number of documents in the subset
+     */
+    public int getNumberOfDocuments(int tagIndex, int valueId) {
+        return numberOfDocuments[tagIndex][valueId];
+    }
+}
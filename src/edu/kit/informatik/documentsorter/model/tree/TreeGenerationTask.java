@@ -0,0 +1,54 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class represents the generation of a subtree as a task of a fork/join pool.
+ * The subtrees of the children are independent of each other, because every child only reads and reorders
+ * its own range of the documents. Therefore the children with at least as many documents as the threshold are
+ * generated as tasks of their own, the other children are generated sequentially by the current task.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+public class TreeGenerationTask extends RecursiveAction {
+    private static final long serialVersionUID = -2867429046813957021L;
+    private final transient TreeNode node;
+    private final int forkThreshold;
+
+    /**
+     * Constructs a new task generating the subtree of the specified node.
+     *
+     * @param node the root of the subtree to generate
+     * @param forkThreshold the minimum number of documents of a child for which a new task is forked
+     */
+    public TreeGenerationTask(TreeNode node, int forkThreshold) {
+        this.node = node;
+        this.forkThreshold = forkThreshold;
+    }
+
+    @Override
+    protected void compute() {
+        node.addChildren();
+        List<TreeGenerationTask> forkedTasks = new ArrayList<>();
+        List<TreeNode> smallChildren = new ArrayList<>();
+        for (TreeNode child : node.getChildren()) {
+            if (child.getNumberOfDocuments() >= forkThreshold) {
+                TreeGenerationTask task = new TreeGenerationTask(child, forkThreshold);
+                task.fork();
+                forkedTasks.add(task);
+            } else {
+                smallChildren.add(child);
+            }
+        }
+        //generate the small subtrees while the forked ones are processed by other workers
+        for (TreeNode child : smallChildren) {
+            child.generateTree();
+        }
+        for (TreeGenerationTask task : forkedTasks) {
+            task.join();
+        }
+    }
+}
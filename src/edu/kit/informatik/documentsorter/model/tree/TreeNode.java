@@ -1,14 +1,19 @@
 package edu.kit.informatik.documentsorter.model.tree;
 
-import edu.kit.informatik.documentsorter.model.document.Document;
+import edu.kit.informatik.documentsorter.model.DocumentTable;
+import edu.kit.informatik.documentsorter.model.metrics.NodeSplitEvaluatedEvent;
+import edu.kit.informatik.documentsorter.model.metrics.Phase;
+import edu.kit.informatik.documentsorter.model.metrics.PhaseMetrics;
 import edu.kit.informatik.documentsorter.model.tag.Tag;
 import edu.kit.informatik.documentsorter.model.tree.comparator.InformationGainComparator;
 import edu.kit.informatik.documentsorter.model.tree.comparator.LikelihoodComparator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 
 /**
  * This class represents a node in the directory tree of the file system.
@@ -19,140 +24,364 @@ import java.util.stream.Collectors;
 public class TreeNode {
 
     private static final double MINIMUM_INFORMATION_GAIN = 0.001d;
+    private static final int SEQUENTIAL_EVALUATION = Integer.MAX_VALUE;
+    private static final int NONE = -1;
+    private static final int AMBIGUOUS = -2;
+    private static final String DOCUMENT_NOT_IN_CHILDREN_FORMAT = "The document %d is not in a child of the node";
+    private static final String TAG_NOT_REMAINING_FORMAT = "The tag with the identifier %d is not a remaining tag";
+    private final DocumentTable documentTable;
     private final List<TreeNode> children;
-    private final List<Document> remainingDocuments;
-    private final List<Tag> remainingTags;
+    private final int[] documents;
+    private final int from;
+    private final int to;
+    private final int[] remainingTags;
     private final Path currentPath;
     private final List<Path> potentialPathsSortedByInformationGain;
     private final List<Path> nextPathsSortedByLikelihood;
+    private int parallelEvaluationThreshold;
+    private boolean informationGainsListed;
+    private int splitTagId;
+    private int valueId;
+    private int depth;
+    private boolean outdated;
+    private boolean evaluated;
     /**
      * Constructs a new node with the documents of the remaining subset, the current tree path and
      * the remaining tags.
+     * The ordinals of the documents are shared between all nodes of a tree, the remaining documents of this node
+     * are the ordinals in the range from {@code from} (inclusive) to {@code to} (exclusive). The range is reordered
+     * when the children of the node are added, so that the documents of every child form a contiguous range.
      *
-     * @param remainingTags the remaining tags of the node
-     * @param remainingDocuments the remaining documents
+     * @param documentTable the table containing all documents of the file
+     * @param remainingTags the identifiers of the remaining tags of the node
+     * @param documents the ordinals of the documents of the tree
+     * @param from the start of the range of the remaining documents (inclusive)
+     * @param to the end of the range of the remaining documents (exclusive)
      * @param currentPath the current path to this node
      */
-    public TreeNode(List<Tag> remainingTags,
-                    List<Document> remainingDocuments, Path currentPath) {
-        this.remainingTags = new ArrayList<>(remainingTags);
+    public TreeNode(DocumentTable documentTable, int[] remainingTags,
+                    int[] documents, int from, int to, Path currentPath) {
+        this.documentTable = documentTable;
+        this.remainingTags = remainingTags.clone();
         this.children = new ArrayList<>();
-        this.remainingDocuments = new ArrayList<>(remainingDocuments);
-        setNewProbabilityOfDocuments(remainingDocuments); //set the new probability of the documents depending on the subset
+        this.documents = documents;
+        this.from = from;
+        this.to = to;
         this.currentPath = currentPath;
         this.potentialPathsSortedByInformationGain = new ArrayList<>();
         this.nextPathsSortedByLikelihood = new ArrayList<>();
+        this.parallelEvaluationThreshold = SEQUENTIAL_EVALUATION;
+        this.informationGainsListed = true;
+        this.splitTagId = NONE;
+        this.valueId = NONE;
+        this.depth = 0;
+        this.outdated = false;
+        this.evaluated = false;
     }
-    private void setNewProbabilityOfDocuments(List<Document> documents) {
-        int accumlatedAccessNumber = documents.stream()
-                .mapToInt(Document::getAccessNumber)
-                .sum();
-        documents.forEach(document ->
-                document.setCurrentProbability(document.getAccessNumber() / ((double) accumlatedAccessNumber))
-        );
-    }
-    private double calculateEntropy(List<Document> documents) {
-        double entropy = 0;
-        for (Document document : documents) {
-            double probability = document.getCurrentProbability();
-            entropy += probability * (Math.log(probability) / Math.log(2));
-        }
-        return -entropy;
-    }
-    private List<List<Document>> getPotentialSubsetsForTag(Tag tag) {
-        return tag.getPossibleValues().stream()
-                .map(value -> remainingDocuments.stream()
-                        .filter(document -> document.getTags().get(document.getTags().indexOf(tag)).getValue().equals(value))
-                        .collect(Collectors.toList()))
-                .collect(Collectors.toList());
-    }
-    private double getLikelihoodForDocumentInSubset(List<Document> potentialSubsetOfTag) {
-        double likelihood = 0;
-        for (Document document : potentialSubsetOfTag) {
-            likelihood += document.getCurrentProbability();
-        }
-        return likelihood;
-    }
-
-    private double calculateUncertaintyForTag(List<List<Document>> potentialSubsetsOfTag) {
-        double uncertainty = 0;
-        for (List<Document> potentialSubset : potentialSubsetsOfTag) {
-            //calculate the likelihood for a document in this subset of the current tag
-            double likelihoodOfSubset = getLikelihoodForDocumentInSubset(potentialSubset);
-            setNewProbabilityOfDocuments(potentialSubset);
-            double entropyOfSubset = calculateEntropy(potentialSubset);
-            uncertainty += likelihoodOfSubset * entropyOfSubset;
-            //reset the probability of the documents
-            setNewProbabilityOfDocuments(remainingDocuments);
 
-        }
-        return uncertainty;
+    /**
+     * Sets the minimum number of documents of a node for which the tags are evaluated in parallel.
+     * The threshold is passed on to the children of the node. The parallel evaluation uses the pool of the
+     * calling thread, so it should only be used when generating the tree in a fork/join pool.
+     *
+     * @param parallelEvaluationThreshold the minimum number of documents for a parallel evaluation of the tags
+     */
+    public void setParallelEvaluationThreshold(int parallelEvaluationThreshold) {
+        this.parallelEvaluationThreshold = parallelEvaluationThreshold;
     }
-    private double calculateInformationGainForTag(double uncertaintyForTag) {
-        return calculateEntropy(remainingDocuments) - uncertaintyForTag;
+
+    /**
+     * Sets whether all potential paths of the node are listed with their information gain.
+     * If not, only the path with the highest information gain is kept, which is all that is needed to split
+     * the node. The setting is passed on to the children of the node.
+     *
+     * @param informationGainsListed whether all potential paths are listed
+     */
+    public void setInformationGainsListed(boolean informationGainsListed) {
+        this.informationGainsListed = informationGainsListed;
     }
+
     private void setNextPaths() {
-        for (Tag tag : remainingTags) {
-            List<List<Document>> potentialSubsetsOfTag = getPotentialSubsetsForTag(tag);
-            double uncertaintyForTag = calculateUncertaintyForTag(potentialSubsetsOfTag);
-            double informationGainForTag = calculateInformationGainForTag(uncertaintyForTag);
-            if (informationGainForTag >= MINIMUM_INFORMATION_GAIN) {
-                potentialPathsSortedByInformationGain.add(new Path(currentPath.getName(),
-                        informationGainForTag, 0, tag)); //likelihood to 0 because it is not relevant for this list
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        NodeSplitEvaluatedEvent event = new NodeSplitEvaluatedEvent();
+        event.begin();
+        potentialPathsSortedByInformationGain.clear();
+        nextPathsSortedByLikelihood.clear();
+        splitTagId = NONE;
+        //accumulate the access numbers of all documents per tag value in a single pass
+        SplitEvaluator splitEvaluator = new SplitEvaluator(documentTable, remainingTags);
+        splitEvaluator.evaluate(documents, from, to, getNumberOfDocuments() >= parallelEvaluationThreshold);
+        double entropy = splitEvaluator.getEntropy();
+        double[] informationGains = new double[remainingTags.length];
+        //a node with a document which has never been accessed is not split, so it stays a leaf without any gain
+        if (!splitEvaluator.hasDocumentWithoutAccesses()) {
+            for (int tagIndex = 0; tagIndex < remainingTags.length; tagIndex++) {
+                informationGains[tagIndex] = entropy - splitEvaluator.getUncertainty(tagIndex);
             }
         }
-        potentialPathsSortedByInformationGain.sort(new InformationGainComparator());
+        int bestTagIndex = informationGainsListed ? AMBIGUOUS : selectBestTag(informationGains, this::getTagName);
+        if (bestTagIndex == AMBIGUOUS) {
+            for (int tagIndex = 0; tagIndex < remainingTags.length; tagIndex++) {
+                if (informationGains[tagIndex] >= MINIMUM_INFORMATION_GAIN) {
+                    potentialPathsSortedByInformationGain.add(new Path(currentPath.getName(),
+                            informationGains[tagIndex], 0, documentTable.getTag(remainingTags[tagIndex]))); //likelihood to 0 because it is not relevant for this list
+                }
+            }
+            potentialPathsSortedByInformationGain.sort(new InformationGainComparator());
+            if (!informationGainsListed && !potentialPathsSortedByInformationGain.isEmpty()) {
+                potentialPathsSortedByInformationGain.subList(1, potentialPathsSortedByInformationGain.size()).clear();
+            }
+        } else if (bestTagIndex != NONE) {
+            potentialPathsSortedByInformationGain.add(new Path(currentPath.getName(),
+                    informationGains[bestTagIndex], 0, documentTable.getTag(remainingTags[bestTagIndex])));
+        }
         if (!potentialPathsSortedByInformationGain.isEmpty()) {
             //choose path with highest information gain
-            Path path = potentialPathsSortedByInformationGain.get(0);
-            List<List<Document>> potentialSubsets = getPotentialSubsetsForTag(path.getCurrentTag());
-            for (List<Document> potentialSubset : potentialSubsets) {
-                if (potentialSubset.isEmpty()) {
+            Tag currentTag = potentialPathsSortedByInformationGain.get(0).getCurrentTag();
+            int tagId = documentTable.getTagId(currentTag.getName());
+            int tagIndex = getIndexOfRemainingTag(tagId);
+            splitTagId = tagId;
+            for (int valueId = 0; valueId < documentTable.getNumberOfValues(tagId); valueId++) {
+                if (splitEvaluator.getNumberOfDocuments(tagIndex, valueId) == 0) {
                     continue;
                 }
-                //calculate the likelihood for a document in this subset of the current tag
-                double likelihood = getLikelihoodForDocumentInSubset(potentialSubset);
                 //set a new path with the likelihood of the current subset and a copy of the current tag
                 //with the same possible values but the current value of the subset
-                Tag newTag = path.getCurrentTag().copy();
-                //we use the first document of the subset to get the current value of the tag because they all have the same value
-                Document firstDocument = potentialSubset.get(0);
-                Tag currentTag = path.getCurrentTag();
-                int tagIndex = firstDocument.getTags().indexOf(currentTag);
-                String tagValue = firstDocument.getTags().get(tagIndex).getValue();
-                newTag.setValue(tagValue);
+                Tag newTag = currentTag.copy();
+                newTag.setValue(documentTable.getValue(tagId, valueId));
                 nextPathsSortedByLikelihood.add(new Path(currentPath.getName(),
-                        0, likelihood, newTag));
-
+                        0, splitEvaluator.getLikelihood(tagIndex, valueId), newTag));
             }
         }
         nextPathsSortedByLikelihood.sort(new LikelihoodComparator());
+        PhaseMetrics.stop(measurement, Phase.SPLIT_EVALUATION, depth);
+        commitEvent(event);
     }
 
-    private void addChildren() {
+    private void commitEvent(NodeSplitEvaluatedEvent event) {
+        //the event is only filled if a flight recording is running and records it
+        if (event.shouldCommit()) {
+            event.set(depth, getNumberOfDocuments(), remainingTags.length,
+                    splitTagId == NONE ? null : documentTable.getTag(splitTagId).getName(),
+                    potentialPathsSortedByInformationGain.isEmpty()
+                            ? 0 : potentialPathsSortedByInformationGain.get(0).getInformationGain());
+            event.commit();
+        }
+    }
+    /**
+     * Selects the tag with the highest information gain without sorting all tags.
+     * Information gains which differ by less than the epsilon of the comparator are treated as equal and
+     * ordered by the names of the tags. This is only a total order if the information gains close to the highest
+     * one are close to each other as well. Otherwise, the first path of the sorted list depends on the order of
+     * the comparisons, so the tags have to be sorted like when all paths are listed.
+     * Package-private because it is used in the tests of the tie-breaking.
+     *
+     * @param informationGains the information gains of the remaining tags
+     * @param tagNames the function returning the name of the tag with an index
+     * @return the index of the best tag, {@code NONE} if no tag has enough information gain or
+     *      {@code AMBIGUOUS} if the tags have to be sorted
+     */
+    static int selectBestTag(double[] informationGains, IntFunction<String> tagNames) {
+        int highestTagIndex = NONE;
+        for (int tagIndex = 0; tagIndex < informationGains.length; tagIndex++) {
+            if (informationGains[tagIndex] >= MINIMUM_INFORMATION_GAIN
+                    && (highestTagIndex == NONE || informationGains[tagIndex] > informationGains[highestTagIndex])) {
+                highestTagIndex = tagIndex;
+            }
+        }
+        if (highestTagIndex == NONE) {
+            return NONE;
+        }
+        //every tag which is not more than two epsilons below the highest gain might be equal to one of the others
+        double highestInformationGain = informationGains[highestTagIndex];
+        double lowestCloseInformationGain = highestInformationGain;
+        int bestTagIndex = highestTagIndex;
+        for (int tagIndex = 0; tagIndex < informationGains.length; tagIndex++) {
+            if (informationGains[tagIndex] >= MINIMUM_INFORMATION_GAIN
+                    && highestInformationGain - informationGains[tagIndex] < 2 * InformationGainComparator.EPSILON) {
+                lowestCloseInformationGain = Math.min(lowestCloseInformationGain, informationGains[tagIndex]);
+                if (tagNames.apply(tagIndex).compareTo(tagNames.apply(bestTagIndex)) < 0) {
+                    bestTagIndex = tagIndex;
+                }
+            }
+        }
+        if (highestInformationGain - lowestCloseInformationGain >= InformationGainComparator.EPSILON) {
+            return AMBIGUOUS;
+        }
+        return bestTagIndex;
+    }
+
+    private String getTagName(int tagIndex) {
+        return documentTable.getTag(remainingTags[tagIndex]).getName();
+    }
+
+    private int getIndexOfRemainingTag(int tagId) {
+        for (int tagIndex = 0; tagIndex < remainingTags.length; tagIndex++) {
+            if (remainingTags[tagIndex] == tagId) {
+                return tagIndex;
+            }
+        }
+        //the chosen tag is always one of the remaining tags
+        throw new IllegalStateException(TAG_NOT_REMAINING_FORMAT.formatted(tagId));
+    }
+
+    /**
+     * Chooses the tag with the highest information gain and adds a child for every subset of the documents.
+     * Package-private because it is used in {@link TreeGenerationTask}.
+     */
+    void addChildren() {
         setNextPaths();
+        createChildren();
+        evaluated = true;
+    }
+
+    /**
+     * Adds the children of the node if the node has not been evaluated yet.
+     * This way a tree can be generated lazily while it is visited, the subtrees which are never visited
+     * are never evaluated.
+     * Package-private because it is used in {@link DocumentPathIterator}.
+     */
+    void addChildrenIfNotEvaluated() {
+        if (!evaluated) {
+            addChildren();
+        }
+    }
+
+    private void createChildren() {
+        children.clear();
         if (nextPathsSortedByLikelihood.isEmpty()) {
             return;
         }
-        List<Tag> newRemainingTags = new ArrayList<>(remainingTags);
-        newRemainingTags.remove(nextPathsSortedByLikelihood.get(0).getCurrentTag());
+        int tagId = splitTagId;
+        int[] newRemainingTags = Arrays.stream(remainingTags)
+                .filter(remainingTag -> remainingTag != tagId)
+                .toArray();
+        PhaseMetrics.Measurement measurement = PhaseMetrics.start();
+        int[] boundaries = partitionDocuments(tagId);
+        PhaseMetrics.stop(measurement, Phase.PARTITIONING, depth);
         for (Path path : nextPathsSortedByLikelihood) {
-            //get the subset for this tag value
-            List<Document> subset = new ArrayList<>();
+            //the subset for this tag value is the range of the partition belonging to the value
             Tag currentTag = path.getCurrentTag();
-            for (Document document : remainingDocuments) {
-                // if the tag value of the document is equal to the value of the current tag
-                if (document.getTags().get(document.getTags().indexOf(currentTag)).getValue()
-                        .equals(currentTag.getValue())) {
-                    subset.add(document);
-                }
-            }
-            TreeNode child = new TreeNode(newRemainingTags, subset, new Path(path.getTagAsString(),
+            int valueIdOfChild = documentTable.getValueId(tagId, currentTag.getValue());
+            TreeNode child = new TreeNode(documentTable, newRemainingTags, documents,
+                    boundaries[valueIdOfChild], boundaries[valueIdOfChild + 1], new Path(path.getTagAsString(),
                     0, 0, currentTag));
+            child.setParallelEvaluationThreshold(parallelEvaluationThreshold);
+            child.setInformationGainsListed(informationGainsListed);
+            child.valueId = valueIdOfChild;
+            child.depth = depth + 1;
             children.add(child);
         }
     }
 
+    /**
+     * Returns the child of the node whose subset contains the specified document.
+     * The node has to be evaluated and must not be a leaf.
+     * Package-private because it is used in {@link DirectoryTree}.
+     *
+     * @param ordinal the ordinal of the document
+     * @return the child containing the document
+     */
+    TreeNode getChildContaining(int ordinal) {
+        int valueIdOfDocument = documentTable.getValueIdOfDocument(splitTagId, ordinal);
+        for (TreeNode child : children) {
+            if (child.valueId == valueIdOfDocument) {
+                return child;
+            }
+        }
+        throw new IllegalArgumentException(DOCUMENT_NOT_IN_CHILDREN_FORMAT.formatted(ordinal));
+    }
+
+    /**
+     * Marks the nodes on the path from this node to the leaf containing the specified document as outdated.
+     * This is necessary after the access number of the document has been changed.
+     *
+     * @param ordinal the ordinal of the changed document
+     */
+    public void markOutdated(int ordinal) {
+        outdated = true;
+        if (splitTagId == NONE) {
+            return;
+        }
+        int valueIdOfDocument = documentTable.getValueIdOfDocument(splitTagId, ordinal);
+        for (TreeNode child : children) {
+            if (child.valueId == valueIdOfDocument) {
+                child.markOutdated(ordinal);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Evaluates the outdated nodes of the tree with this node as root again.
+     * If the tag with the highest information gain of an outdated node is still the same, only the information
+     * gains and the order of its children are updated. Otherwise, new children are added to the node and
+     * have to be generated again, just like the children of a leaf which can be split now.
+     *
+     * @param subtreesToGenerate the list to add the roots of the subtrees to which have to be generated again
+     */
+    public void update(List<TreeNode> subtreesToGenerate) {
+        if (!outdated) {
+            return;
+        }
+        outdated = false;
+        int previousSplitTagId = splitTagId;
+        setNextPaths();
+        if (splitTagId != previousSplitTagId) {
+            createChildren();
+            subtreesToGenerate.addAll(children);
+            return;
+        }
+        //the subsets are the same as before, only their likelihood and therefore their order might have changed
+        List<TreeNode> previousChildren = new ArrayList<>(children);
+        children.clear();
+        for (Path path : nextPathsSortedByLikelihood) {
+            int valueIdOfChild = documentTable.getValueId(splitTagId, path.getCurrentTag().getValue());
+            previousChildren.stream()
+                    .filter(child -> child.valueId == valueIdOfChild)
+                    .forEach(children::add);
+        }
+        for (TreeNode child : children) {
+            child.update(subtreesToGenerate);
+        }
+    }
+
+    /**
+     * Reorders the range of the remaining documents in place, so that the documents with the same value
+     * of the specified tag are contiguous and ordered by the identifier of the value.
+     *
+     * @param tagId the identifier of the tag to partition by
+     * @return the boundaries of the partitions, the documents with the value {@code v} are in the range
+     *      from {@code boundaries[v]} (inclusive) to {@code boundaries[v + 1]} (exclusive)
+     */
+    private int[] partitionDocuments(int tagId) {
+        int numberOfValues = documentTable.getNumberOfValues(tagId);
+        int[] boundaries = new int[numberOfValues + 1];
+        for (int i = from; i < to; i++) {
+            boundaries[documentTable.getValueIdOfDocument(tagId, documents[i]) + 1]++;
+        }
+        boundaries[0] = from;
+        for (int valueId = 0; valueId < numberOfValues; valueId++) {
+            boundaries[valueId + 1] += boundaries[valueId];
+        }
+        //move every document into the partition of its value by swapping it with the next unsorted document there
+        int[] nextPositions = Arrays.copyOf(boundaries, numberOfValues);
+        for (int valueId = 0; valueId < numberOfValues; valueId++) {
+            while (nextPositions[valueId] < boundaries[valueId + 1]) {
+                int ordinal = documents[nextPositions[valueId]];
+                int valueIdOfDocument = documentTable.getValueIdOfDocument(tagId, ordinal);
+                if (valueIdOfDocument == valueId) {
+                    nextPositions[valueId]++;
+                } else {
+                    documents[nextPositions[valueId]] = documents[nextPositions[valueIdOfDocument]];
+                    documents[nextPositions[valueIdOfDocument]] = ordinal;
+                    nextPositions[valueIdOfDocument]++;
+                }
+            }
+        }
+        return boundaries;
+    }
+
     /**
      * Generates a tree with the current node as root.
      */
@@ -166,12 +395,36 @@ public class TreeNode {
         }
     }
     /**
-     * Returns the documents of the current subset.
+     * Generates a tree with the current node as root using the specified fork/join pool.
+     * The generated tree is the same as the one generated by {@link #generateTree()}.
+     *
+     * @param forkJoinPool the pool to generate the subtrees in
+     * @param forkThreshold the minimum number of documents of a subtree for which a new task is forked
+     */
+    public void generateTree(ForkJoinPool forkJoinPool, int forkThreshold) {
+        forkJoinPool.invoke(new TreeGenerationTask(this, forkThreshold));
+    }
+
+    /**
+     * Returns the number of documents of the current subset.
      *
-     * @return the documents of the current subset
+     * @return the number of documents of the current subset
      */
-    public List<Document> getRemainingDocuments() {
-        return Collections.unmodifiableList(remainingDocuments);
+    public int getNumberOfDocuments() {
+        return to - from;
+    }
+
+    /**
+     * Returns the names of the documents of the current subset.
+     *
+     * @return the names of the documents of the current subset
+     */
+    public String[] getRemainingDocumentNames() {
+        String[] documentNames = new String[getNumberOfDocuments()];
+        for (int i = 0; i < documentNames.length; i++) {
+            documentNames[i] = documentTable.getName(documents[from + i]);
+        }
+        return documentNames;
     }
 
     /**
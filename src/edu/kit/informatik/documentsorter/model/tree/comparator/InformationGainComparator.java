@@ -12,9 +12,9 @@ import java.util.Comparator;
 public class InformationGainComparator implements Comparator<Path> {
     /**
      * The epsilon for the comparison of the information gain.
-     * Package-private because it is used in {@link LikelihoodComparator}.
+     * Two information gains which differ by less than the epsilon are treated as equal.
      */
-    static final double EPSILON = 0.00001d;
+    public static final double EPSILON = 0.00001d;
 
     @Override
     public int compare(Path path1, Path path2) {
@@ -0,0 +1,144 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.model.DocumentFile;
+import edu.kit.informatik.documentsorter.model.DocumentTable;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class tests that a file parsed in chunks in parallel is loaded exactly like a file parsed sequentially,
+ * including the order of the tags and their values and the error of an invalid file.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class ChunkedLoadTest {
+    private static final long SEED = 11;
+    private static final int NUMBER_OF_DOCUMENTS = 50;
+    private static final int NUMBER_OF_TAGS = 8;
+    private static final int NUMBER_OF_VALUES = 4;
+    private static final int MAXIMUM_ACCESS_NUMBER = 10;
+    private static final int INDEX_OF_LATER_LINE = 40;
+    private static final int PARALLELISM = 3;
+    private static final String[] TYPES = {"audio", "text", "video", "image", "program"};
+    private static final String[] VALUES = {"rock", "pop", "drama", "jazz"};
+    private static final String LINE_FEED = "\n";
+    private static final String CARRIAGE_RETURN_LINE_FEED = "\r\n";
+    private static final String NAME_OF_LINE_FEED = "lf";
+    private static final String FAILURE_PREFIX = "failure: ";
+    private static final String TAG_FORMAT = "tag %s %s %s";
+    private static final String DOCUMENT_FORMAT = "document %s %s %d";
+    private static final String VALUE_FORMAT = " %s";
+    //a line which is too short to be a document
+    private static final String MALFORMED_LINE = "broken,text";
+    //the first tag of the generated lines with a value of another type
+    private static final String AMBIGUOUS_LINE = "ambiguous,text,1,t0=5";
+    private static final String VALID = "valid";
+    private static final String MALFORMED = "malformed";
+    private static final String AMBIGUOUS = "ambiguous";
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Loads a file sequentially and in parallel with chunks of different sizes.
+     * A chunk of a single byte ends after the first line break, so every line is a chunk of its own. The other
+     * chunk sizes are shorter than most of the lines, so the lines span the boundaries at which the chunks start
+     * looking for the next line break.
+     *
+     * @param content the kind of lines of the file
+     * @param lineSeparator whether the lines are separated by line feeds or by carriage returns and line feeds
+     */
+    @ParameterizedTest
+    @CsvSource({"valid,lf", "valid,crlf", "malformed,lf", "malformed,crlf", "ambiguous,lf", "ambiguous,crlf"})
+    void chunkedLoadEqualsSequentialLoad(String content, String lineSeparator) throws IOException {
+        Path file = directory.resolve("documents.txt");
+        List<String> lines = createLines(content);
+        String separator = lineSeparator.equals(NAME_OF_LINE_FEED) ? LINE_FEED : CARRIAGE_RETURN_LINE_FEED;
+        Files.writeString(file, String.join(separator, lines) + separator, StandardCharsets.UTF_8);
+        String expected = load(file, 1, new FilingFinesse().getLoadChunkSize());
+        assertEquals(expected, load(file, 1, 1));
+        assertEquals(expected, load(file, PARALLELISM, new FilingFinesse().getLoadChunkSize()));
+        for (int loadChunkSize : new int[] {1, 2, 7, 64, 512}) {
+            assertEquals(expected, load(file, PARALLELISM, loadChunkSize), String.valueOf(loadChunkSize));
+        }
+        assertEquals(!content.equals(VALID), expected.startsWith(FAILURE_PREFIX));
+    }
+
+    private static List<String> createLines(String content) {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>();
+        for (int ordinal = 0; ordinal < NUMBER_OF_DOCUMENTS; ordinal++) {
+            StringBuilder line = new StringBuilder("doc" + ordinal);
+            line.append(',').append(TYPES[random.nextInt(TYPES.length)]);
+            line.append(',').append(1 + random.nextInt(MAXIMUM_ACCESS_NUMBER));
+            //every document has at least the first tag, so a later line can define it ambiguously
+            line.append(",t0=").append(VALUES[random.nextInt(VALUES.length)]);
+            for (int tag = 1; tag < NUMBER_OF_TAGS; tag++) {
+                if (random.nextBoolean()) {
+                    line.append(",t").append(tag).append('=').append(VALUES[random.nextInt(NUMBER_OF_VALUES)]);
+                }
+            }
+            lines.add(line.toString());
+        }
+        switch (content) {
+            case MALFORMED -> {
+                lines.set(INDEX_OF_LATER_LINE, MALFORMED_LINE);
+                lines.add(AMBIGUOUS_LINE);
+            }
+            case AMBIGUOUS -> lines.set(INDEX_OF_LATER_LINE, AMBIGUOUS_LINE);
+            default -> { }
+        }
+        return lines;
+    }
+
+    private static String load(Path file, int parallelism, int loadChunkSize) {
+        FilingFinesse model = new FilingFinesse();
+        model.setParallelism(parallelism, 1, 1);
+        model.setLoadChunkSize(loadChunkSize);
+        CommandResult result = new LoadCommand(EchoMode.NONE).execute(model, new String[] {file.toString()});
+        model.setParallelism(1, 1, 1);
+        if (result.getType() == CommandResultType.FAILURE) {
+            return FAILURE_PREFIX + result.getMessage();
+        }
+        return describe(model.getAllDocumentFiles().get(0));
+    }
+
+    private static String describe(DocumentFile documentFile) {
+        StringBuilder description = new StringBuilder();
+        for (Tag tag : documentFile.getAllTags()) {
+            description.append(TAG_FORMAT.formatted(tag.getClass().getSimpleName(), tag.getName(),
+                    tag.getPossibleValues())).append(LINE_FEED);
+        }
+        DocumentTable documentTable = documentFile.getDocumentTable();
+        for (int tagId = 0; tagId < documentTable.getNumberOfTags(); tagId++) {
+            description.append(documentTable.getTag(tagId).getName());
+            for (int valueId = 0; valueId < documentTable.getNumberOfValues(tagId); valueId++) {
+                description.append(VALUE_FORMAT.formatted(documentTable.getValue(tagId, valueId)));
+            }
+            description.append(LINE_FEED);
+        }
+        for (int ordinal = 0; ordinal < documentTable.getNumberOfDocuments(); ordinal++) {
+            description.append(DOCUMENT_FORMAT.formatted(documentTable.getName(ordinal),
+                    documentTable.getDocumentType(ordinal), documentTable.getAccessNumber(ordinal)));
+            for (int tagId = 0; tagId < documentTable.getNumberOfTags(); tagId++) {
+                description.append(VALUE_FORMAT.formatted(documentTable.getValueIdOfDocument(tagId, ordinal)));
+            }
+            description.append(LINE_FEED);
+        }
+        return description.toString();
+    }
+}
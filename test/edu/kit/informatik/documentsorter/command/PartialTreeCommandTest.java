@@ -0,0 +1,113 @@
+package edu.kit.informatik.documentsorter.command;
+
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class tests that the commands which only generate the needed parts of a directory tree print
+ * exactly the lines which the command {@code run} prints for the whole tree.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class PartialTreeCommandTest {
+    private static final long SEED = 7;
+    private static final int NUMBER_OF_DOCUMENTS = 60;
+    private static final int NUMBER_OF_TAGS = 4;
+    private static final int NUMBER_OF_VALUES = 3;
+    private static final int MAXIMUM_ACCESS_NUMBER = 10;
+    private static final String[] TYPES = {"audio", "text", "video", "image", "program"};
+    private static final String FIRST_FILE = "0";
+    private static final String SEPARATOR_OF_PATHS = "---";
+    private static final String LIMIT_OPTION = "--limit";
+    private static final String NAME_FORMAT = "doc%d";
+    private static final String DOCUMENT_OF_PATH_FORMAT = "/\"%s\"";
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void locatePrintsTheLineOfRun(TableLayout tableLayout) throws IOException {
+        FilingFinesse modelWithTree = loadFile(tableLayout);
+        List<String> paths = getPathsOfRun(modelWithTree);
+        for (int ordinal = 0; ordinal < NUMBER_OF_DOCUMENTS; ordinal++) {
+            //every locate generates a new partial tree
+            FilingFinesse model = loadFile(tableLayout);
+            String name = NAME_FORMAT.formatted(ordinal);
+            String expectedPath = paths.stream()
+                    .filter(path -> path.endsWith(DOCUMENT_OF_PATH_FORMAT.formatted(name)))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(expectedPath, execute(new LocateCommand(), model, FIRST_FILE, name));
+            assertEquals(expectedPath, execute(new LocateCommand(), modelWithTree, FIRST_FILE, name));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void runWithLimitPrintsTheFirstLinesOfRun(TableLayout tableLayout) throws IOException {
+        FilingFinesse modelWithTree = loadFile(tableLayout);
+        List<String> paths = getPathsOfRun(modelWithTree);
+        for (int limit = 1; limit <= NUMBER_OF_DOCUMENTS + 1; limit++) {
+            List<String> expectedPaths = paths.subList(0, Math.min(limit, paths.size()));
+            String expectedOutput = String.join(System.lineSeparator(), expectedPaths);
+            //a file without a cached tree generates a partial tree, otherwise the cached tree is used
+            FilingFinesse model = loadFile(tableLayout);
+            assertEquals(expectedOutput,
+                    execute(new RunCommand(), model, FIRST_FILE, LIMIT_OPTION, String.valueOf(limit)));
+            assertEquals(expectedOutput,
+                    execute(new RunCommand(), modelWithTree, FIRST_FILE, LIMIT_OPTION, String.valueOf(limit)));
+        }
+    }
+
+    private static List<String> getPathsOfRun(FilingFinesse model) {
+        List<String> lines = Arrays.asList(execute(new RunCommand(), model, FIRST_FILE)
+                .split(System.lineSeparator()));
+        List<String> paths = lines.subList(lines.indexOf(SEPARATOR_OF_PATHS) + 1, lines.size());
+        assertEquals(NUMBER_OF_DOCUMENTS, paths.size());
+        return paths;
+    }
+
+    private static String execute(Command command, FilingFinesse model, String... commandArguments) {
+        CommandResult result = command.execute(model, commandArguments);
+        assertEquals(CommandResultType.SUCCESS, result.getType());
+        return result.getMessage();
+    }
+
+    private FilingFinesse loadFile(TableLayout tableLayout) throws IOException {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>();
+        for (int ordinal = 0; ordinal < NUMBER_OF_DOCUMENTS; ordinal++) {
+            StringBuilder line = new StringBuilder(NAME_FORMAT.formatted(ordinal));
+            line.append(',').append(TYPES[random.nextInt(TYPES.length)]);
+            line.append(',').append(1 + random.nextInt(MAXIMUM_ACCESS_NUMBER));
+            for (int tag = 0; tag < NUMBER_OF_TAGS; tag++) {
+                if (random.nextBoolean()) {
+                    line.append(",t").append(tag).append('=').append(random.nextInt(NUMBER_OF_VALUES));
+                }
+            }
+            lines.add(line.toString());
+        }
+        Path file = directory.resolve("documents.txt");
+        Files.write(file, lines);
+        FilingFinesse model = new FilingFinesse();
+        model.setTableLayout(tableLayout);
+        assertEquals(CommandResultType.SUCCESS,
+                new LoadCommand(EchoMode.NONE).execute(model, new String[] {file.toString()}).getType());
+        return model;
+    }
+}
@@ -0,0 +1,109 @@
+package edu.kit.informatik.documentsorter.factory;
+
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import edu.kit.informatik.documentsorter.model.tag.BinaryTag;
+import edu.kit.informatik.documentsorter.model.tag.MultivalueTag;
+import edu.kit.informatik.documentsorter.model.tag.NumericTag;
+import edu.kit.informatik.documentsorter.model.tag.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static edu.kit.informatik.documentsorter.factory.DocumentFactory.NUMBER_NOT_INT_FAILURE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class tests that the tags lexed by the {@link TagFactory} are the same as the ones created by matching
+ * the regular expressions of the tag formats, including the messages of invalid tags.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class TagFactoryTest {
+    private static final String ASSIGNMENT_CHARACTER = "=";
+    private static final String BINARY_TAG_REGEX = "^[a-zA-Z][a-zA-Z0-9]+$";
+    private static final String MULTIVALUE_TAG_VALUE_REGEX = "[a-zA-Z][a-zA-Z0-9 ]+";
+    private static final String NUMERIC_TAG_VALUE_REGEX = "\\d+";
+    private static final String INVALID_TAG_FORMAT_MESSAGE = "The tag format is invalid.";
+    private static final String INVALID_INFERRED_TAG_MESSAGE = "An inferred tag is defined with the wrong tag type.";
+    private static final String RESULT_FORMAT = "%s %s=%s";
+    private static final String ERROR_FORMAT = "error: %s";
+    private static final String CHARACTERS_OF_RANDOM_TOKENS = "aZ09= _-\u00e9\u017f";
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_RANDOM_TOKENS = 100000;
+    private static final int MAXIMUM_LENGTH_OF_RANDOM_TOKENS = 8;
+
+    //the long s is equal to an s ignoring the case, so it spells an inferred name as well
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "ab", "a1", "1a", "AB", "aB3", "a b", "ab-c", "ab=", "ab==", "=ab", "=12",
+        "ab=cd=ef", "ab=12=x", "ab=12", "ab=0012", "ab=2147483647", "ab=2147483648", "ab=99999999999", "ab=a b",
+        "ab=ab ", "ab= a", "ab=1a", "ab=a", "ab=\u00e9", "ab=\u0661\u0662", "ab=-1", "draft", "Draft=Final",
+        "audiolength", "audiolength=5", "AUDIOLENGTH", "AudioGenre=rock", "image\u017fize", "image\u017fize=big",
+        "TEXTGENRE=rock", "textlength=short", "videoGenre", "Videolength=12", "audiolengths", "ab=audiolength"})
+    void boundaryTokensCreateTheSameTags(String token) {
+        assertEquals(createWithRegularExpressions(token), createWithFactory(token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"=", "==", "==="})
+    void tokensOfAssignmentsAreInvalid(String token) {
+        //splitting these tokens yields no name at all, so matching the regular expressions failed unchecked
+        assertEquals(ERROR_FORMAT.formatted(INVALID_TAG_FORMAT_MESSAGE), createWithFactory(token));
+    }
+
+    @Test
+    void randomTokensCreateTheSameTags() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUMBER_OF_RANDOM_TOKENS; i++) {
+            char[] token = new char[random.nextInt(MAXIMUM_LENGTH_OF_RANDOM_TOKENS + 1)];
+            for (int j = 0; j < token.length; j++) {
+                token[j] = CHARACTERS_OF_RANDOM_TOKENS.charAt(random.nextInt(CHARACTERS_OF_RANDOM_TOKENS.length()));
+            }
+            String tokenText = new String(token);
+            if (!tokenText.isEmpty() && tokenText.chars().allMatch(character -> character == '=')) {
+                continue;
+            }
+            assertEquals(createWithRegularExpressions(tokenText), createWithFactory(tokenText), tokenText);
+        }
+    }
+
+    private static String createWithFactory(String token) {
+        try {
+            return describe(new TagFactory().create(new String[] {token}));
+        } catch (InitialisationException e) {
+            return ERROR_FORMAT.formatted(e.getMessage());
+        }
+    }
+
+    private static String createWithRegularExpressions(String token) {
+        String[] tagParts = token.split(ASSIGNMENT_CHARACTER);
+        String tagName = tagParts[0];
+        String tagValue = tagParts.length > 1 ? tagParts[1] : null;
+        if (Arrays.stream(TagFactory.INFERRED_TAG_NAMES).anyMatch(tagName::equalsIgnoreCase)) {
+            return ERROR_FORMAT.formatted(INVALID_INFERRED_TAG_MESSAGE);
+        }
+        if (tagValue == null) {
+            return tagName.matches(BINARY_TAG_REGEX)
+                    ? describe(new BinaryTag(tagName)) : ERROR_FORMAT.formatted(INVALID_TAG_FORMAT_MESSAGE);
+        }
+        if (tagValue.matches(NUMERIC_TAG_VALUE_REGEX)) {
+            try {
+                Integer.parseInt(tagValue);
+            } catch (NumberFormatException e) {
+                return ERROR_FORMAT.formatted(NUMBER_NOT_INT_FAILURE);
+            }
+            return describe(new NumericTag(tagName, tagValue));
+        }
+        if (tagValue.matches(MULTIVALUE_TAG_VALUE_REGEX)) {
+            return describe(new MultivalueTag(tagName, tagValue));
+        }
+        return ERROR_FORMAT.formatted(INVALID_TAG_FORMAT_MESSAGE);
+    }
+
+    private static String describe(Tag tag) {
+        return RESULT_FORMAT.formatted(tag.getClass().getSimpleName(), tag.getName(), tag.getValue());
+    }
+}
@@ -0,0 +1,111 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.command.ChangeCommand;
+import edu.kit.informatik.documentsorter.command.CommandResultType;
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * This class tests that a cached directory tree which is updated after changing an access number
+ * is the same as a directory tree generated from scratch.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class DirectoryTreeUpdateTest {
+    private static final List<String> LINES = List.of(
+            "report,text,5,draft,language=german,words=1200",
+            "holiday,image,3,size=4000,place=beach",
+            "theme,audio,8,genre=rock,length=200",
+            "trailer,video,2,length=90,place=city",
+            "letter,text,4,language=english",
+            "notes,text,1,language=english,draft",
+            "sunset,image,6,place=beach");
+    private static final String FIRST_FILE = "0";
+
+    @TempDir
+    Path directory;
+    private FilingFinesse model;
+    private DocumentFile documentFile;
+
+    @BeforeEach
+    void loadFile() throws IOException {
+        Path file = directory.resolve("documents.txt");
+        Files.write(file, LINES);
+        model = new FilingFinesse();
+        new LoadCommand(EchoMode.NONE).execute(model, new String[] {file.toString()});
+        documentFile = model.getAllDocumentFiles().get(0);
+    }
+
+    @AfterEach
+    void shutDownPool() {
+        model.setParallelism(1, 1, 1);
+    }
+
+    /**
+     * Changes the access number of a document after the tree of the file has been cached.
+     * The changes are one which only reorders the documents of a leaf, one which changes the tag chosen at the root
+     * and changes to zero accesses, which turn the nodes containing the document into leaves.
+     *
+     * @param name the name of the changed document
+     * @param accessNumber the new access number of the document
+     * @param parallelism the number of threads which generate the directory trees
+     */
+    @ParameterizedTest
+    @CsvSource({"notes,2,1", "trailer,60,1", "notes,0,1", "sunset,0,1",
+        "notes,2,2", "trailer,60,2", "notes,0,2", "sunset,0,2"})
+    void updatedTreeEqualsAFreshTree(String name, int accessNumber, int parallelism) throws IOException {
+        //every node is evaluated in parallel, so the update of the outdated nodes uses the pool as well
+        model.setParallelism(parallelism, 1, 1);
+        String outputBeforeChange = getCachedOutput();
+        //the commands look up the files by their position in the model, which only contains this file
+        assertEquals(CommandResultType.SUCCESS, new ChangeCommand()
+                .execute(model, new String[] {FIRST_FILE, name, String.valueOf(accessNumber)}).getType());
+        String updatedOutput = getCachedOutput();
+        assertNotEquals(outputBeforeChange, updatedOutput);
+        assertEquals(getFreshOutput(), updatedOutput);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "2"})
+    void treeUpdatedSeveralTimesEqualsAFreshTree(int parallelism) throws IOException {
+        model.setParallelism(parallelism, 1, 1);
+        getCachedOutput();
+        String outputBeforeChanges = getFreshOutput();
+        int ordinalOfTrailer = documentFile.getDocumentTable().getOrdinal("trailer");
+        int ordinalOfSunset = documentFile.getDocumentTable().getOrdinal("sunset");
+        model.changeAccessNumber(documentFile, ordinalOfTrailer, 60);
+        assertEquals(getFreshOutput(), getCachedOutput());
+        model.changeAccessNumber(documentFile, ordinalOfSunset, 0);
+        assertEquals(getFreshOutput(), getCachedOutput());
+        model.changeAccessNumber(documentFile, ordinalOfSunset, 6);
+        model.changeAccessNumber(documentFile, ordinalOfTrailer, 2);
+        assertEquals(outputBeforeChanges, getCachedOutput());
+    }
+
+    private String getCachedOutput() throws IOException {
+        StringBuilder output = new StringBuilder();
+        model.writeDirectoryTreeOutput(documentFile, output);
+        return output.toString();
+    }
+
+    private String getFreshOutput() {
+        FilingFinesse freshModel = new FilingFinesse();
+        freshModel.addFile(documentFile);
+        freshModel.generateDirectoryTree(documentFile);
+        return freshModel.getDirectoryTree().getOutput();
+    }
+}
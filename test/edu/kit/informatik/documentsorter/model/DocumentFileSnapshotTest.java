@@ -0,0 +1,153 @@
+package edu.kit.informatik.documentsorter.model;
+
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import edu.kit.informatik.documentsorter.exceptions.InitialisationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * This class tests writing and reading binary snapshots of document files.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class DocumentFileSnapshotTest {
+    private static final List<String> LINES = List.of(
+            "report,text,5,draft,language=german,words=1200",
+            "holiday,image,3,size=4000,place=beach",
+            "theme,audio,8,genre=rock,length=200",
+            "trailer,video,2,length=90,place=city",
+            "report,program,4",
+            "notes,text,1,language=english");
+    private static final int MAGIC_NUMBER = 0x444F4353;
+    private static final int FORMAT_VERSION = 1;
+    private static final int UNSUPPORTED_FORMAT_VERSION = 2;
+    private static final int OUT_OF_RANGE_OFFSET = Integer.MAX_VALUE;
+
+    @TempDir
+    Path directory;
+    private DocumentFile documentFile;
+    private Path snapshot;
+
+    @BeforeEach
+    void saveSnapshot() throws IOException {
+        Path file = directory.resolve("documents.txt");
+        Files.write(file, LINES);
+        FilingFinesse model = new FilingFinesse();
+        new LoadCommand(EchoMode.NONE).execute(model, new String[] {file.toString()});
+        documentFile = model.getAllDocumentFiles().get(0);
+        snapshot = directory.resolve("documents.bin");
+        DocumentFileSnapshot.write(documentFile, snapshot);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void readRestoresTheDocumentFile(TableLayout tableLayout) throws IOException, InitialisationException {
+        DocumentTable expected = documentFile.getDocumentTable();
+        DocumentTable actual = DocumentFileSnapshot.read(snapshot, tableLayout).getDocumentTable();
+        assertEquals(expected.getNumberOfDocuments(), actual.getNumberOfDocuments());
+        assertEquals(expected.getNumberOfTags(), actual.getNumberOfTags());
+        for (int tagId = 0; tagId < expected.getNumberOfTags(); tagId++) {
+            assertEquals(expected.getTag(tagId).getName(), actual.getTag(tagId).getName());
+            assertEquals(expected.getNumberOfValues(tagId), actual.getNumberOfValues(tagId));
+        }
+        for (int ordinal = 0; ordinal < expected.getNumberOfDocuments(); ordinal++) {
+            assertEquals(expected.getName(ordinal), actual.getName(ordinal));
+            assertEquals(expected.getAccessNumber(ordinal), actual.getAccessNumber(ordinal));
+            assertEquals(expected.getDocumentType(ordinal), actual.getDocumentType(ordinal));
+            assertEquals(expected.getOrdinal(expected.getName(ordinal)), actual.getOrdinal(actual.getName(ordinal)));
+            for (int tagId = 0; tagId < expected.getNumberOfTags(); tagId++) {
+                assertEquals(expected.getValue(tagId, expected.getValueIdOfDocument(tagId, ordinal)),
+                        actual.getValue(tagId, actual.getValueIdOfDocument(tagId, ordinal)));
+            }
+        }
+        assertEquals(-1, actual.getOrdinal("missing"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void readDocumentFileGeneratesTheSameTree(TableLayout tableLayout) throws IOException, InitialisationException {
+        DocumentFile restored = DocumentFileSnapshot.read(snapshot, tableLayout);
+        assertEquals(getOutput(documentFile), getOutput(restored));
+    }
+
+    @Test
+    void changingAMappedAccessNumberKeepsTheSnapshot() throws IOException, InitialisationException {
+        byte[] bytes = Files.readAllBytes(snapshot);
+        DocumentFile restored = DocumentFileSnapshot.read(snapshot, TableLayout.MAPPED);
+        restored.getDocumentTable().setAccessNumber(0, 42);
+        assertEquals(42, restored.getDocumentTable().getAccessNumber(0));
+        assertArrayEquals(bytes, Files.readAllBytes(snapshot));
+    }
+
+    @Test
+    void readRejectsATruncatedSnapshot() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshot);
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(snapshot, Arrays.copyOf(bytes, length));
+            assertRejected();
+        }
+    }
+
+    @Test
+    void readRejectsABadMagicNumber() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        assertEquals(MAGIC_NUMBER, bytes.getInt(0));
+        bytes.putInt(0, MAGIC_NUMBER + 1);
+        Files.write(snapshot, bytes.array());
+        assertRejected();
+    }
+
+    @Test
+    void readRejectsAnUnsupportedVersion() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        assertEquals(FORMAT_VERSION, bytes.getInt(Integer.BYTES));
+        bytes.putInt(Integer.BYTES, UNSUPPORTED_FORMAT_VERSION);
+        Files.write(snapshot, bytes.array());
+        assertRejected();
+    }
+
+    @Test
+    void readRejectsAnOutOfRangeOffsetOfAName() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(snapshot));
+        //the offsets of the names are followed by the types and the names of the documents
+        int numberOfDocuments = LINES.size();
+        int lengthOfNames = LINES.stream()
+                .mapToInt(line -> line.substring(0, line.indexOf(',')).getBytes(StandardCharsets.UTF_8).length)
+                .sum();
+        int positionOfLastOffset = bytes.limit() - lengthOfNames - numberOfDocuments - Integer.BYTES;
+        assertEquals(lengthOfNames, bytes.getInt(positionOfLastOffset));
+        bytes.putInt(positionOfLastOffset - Integer.BYTES, OUT_OF_RANGE_OFFSET);
+        Files.write(snapshot, bytes.array());
+        assertRejected();
+    }
+
+    private void assertRejected() {
+        for (TableLayout tableLayout : TableLayout.values()) {
+            assertThrows(InitialisationException.class, () -> DocumentFileSnapshot.read(snapshot, tableLayout));
+        }
+    }
+
+    private static String getOutput(DocumentFile file) {
+        FilingFinesse model = new FilingFinesse();
+        model.addFile(file);
+        model.generateDirectoryTree(file);
+        return model.getDirectoryTree().getOutput();
+    }
+}
@@ -0,0 +1,93 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+import edu.kit.informatik.documentsorter.model.tag.BinaryTag;
+import edu.kit.informatik.documentsorter.model.tree.comparator.InformationGainComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests that the tag selected without sorting all tags is the first one of the tags sorted
+ * by their information gain, which is the tag chosen when all paths are listed.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class BestTagSelectionTest {
+    //the minimum information gain of a tag to split a node
+    private static final double MINIMUM_INFORMATION_GAIN = 0.001d;
+    private static final double EPSILON = InformationGainComparator.EPSILON;
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_RANDOM_CASES = 10000;
+    private static final int MAXIMUM_NUMBER_OF_TAGS = 6;
+
+    @Test
+    void exactTiesSelectTheFirstName() {
+        assertEquals(1, assertSelectsFirstOfSortedTags(new double[] {0.5, 0.5, 0.5}, "c", "a", "b"));
+        assertEquals(2, assertSelectsFirstOfSortedTags(new double[] {0.3, 0.5, 0.5}, "a", "c", "b"));
+    }
+
+    @Test
+    void nearTiesWithinEpsilonSelectTheFirstName() {
+        assertEquals(1, assertSelectsFirstOfSortedTags(new double[] {0.5, 0.5 + EPSILON / 2}, "b", "a"));
+        assertEquals(1, assertSelectsFirstOfSortedTags(new double[] {0.5 + EPSILON / 2, 0.5}, "b", "a"));
+        assertEquals(1, assertSelectsFirstOfSortedTags(new double[] {0.5, 0.5 - EPSILON * 0.9, 0.2}, "b", "a", "c"));
+        assertEquals(0, assertSelectsFirstOfSortedTags(new double[] {0.5, 0.5 - EPSILON * 2.5}, "b", "a"));
+        //the gains are close in pairs but not all close to each other, so the tags have to be sorted
+        assertTrue(assertSelectsFirstOfSortedTags(
+                new double[] {0.5, 0.5 - EPSILON * 0.6, 0.5 - EPSILON * 1.2}, "c", "b", "a") < 0);
+    }
+
+    @Test
+    void noCandidateTagsSelectNothing() {
+        assertTrue(assertSelectsFirstOfSortedTags(new double[] {}) < 0);
+        assertTrue(assertSelectsFirstOfSortedTags(new double[] {0, MINIMUM_INFORMATION_GAIN / 2}, "a", "b") < 0);
+    }
+
+    @Test
+    void randomNearTiesSelectTheFirstOfSortedTags() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUMBER_OF_RANDOM_CASES; i++) {
+            int numberOfTags = random.nextInt(MAXIMUM_NUMBER_OF_TAGS + 1);
+            double[] informationGains = new double[numberOfTags];
+            String[] tagNames = new String[numberOfTags];
+            for (int tagIndex = 0; tagIndex < numberOfTags; tagIndex++) {
+                //the gains are spread over a few epsilons, so ties and near-ties are common
+                informationGains[tagIndex] = 0.5 + random.nextInt(4) * EPSILON * random.nextDouble();
+                tagNames[tagIndex] = String.valueOf((char) ('a' + random.nextInt(MAXIMUM_NUMBER_OF_TAGS)))
+                        + tagIndex;
+            }
+            assertSelectsFirstOfSortedTags(informationGains, tagNames);
+        }
+    }
+
+    /**
+     * Asserts that the selected tag is the first of the sorted tags, unless the tags have to be sorted because
+     * the selection is ambiguous.
+     *
+     * @param informationGains the information gains of the tags
+     * @param tagNames the names of the tags
+     * @return the index of the selected tag or a negative number if no tag has been selected
+     */
+    private static int assertSelectsFirstOfSortedTags(double[] informationGains, String... tagNames) {
+        List<Path> sortedPaths = new ArrayList<>();
+        for (int tagIndex = 0; tagIndex < informationGains.length; tagIndex++) {
+            if (informationGains[tagIndex] >= MINIMUM_INFORMATION_GAIN) {
+                sortedPaths.add(new Path("/", informationGains[tagIndex], 0, new BinaryTag(tagNames[tagIndex])));
+            }
+        }
+        sortedPaths.sort(new InformationGainComparator());
+        int bestTagIndex = TreeNode.selectBestTag(informationGains, tagIndex -> tagNames[tagIndex]);
+        if (sortedPaths.isEmpty()) {
+            assertTrue(bestTagIndex < 0);
+        } else if (bestTagIndex >= 0) {
+            assertEquals(sortedPaths.get(0).getCurrentTag().getName(), tagNames[bestTagIndex]);
+        }
+        return bestTagIndex;
+    }
+}
@@ -0,0 +1,155 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import edu.kit.informatik.documentsorter.model.DocumentTable;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class tests the entropies computed by the {@link SplitEvaluator} against the definition of the entropy
+ * as {@code -sum(p * log2(p))} over the probabilities of the documents.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class SplitEvaluatorTest {
+    private static final double TOLERANCE = 1e-9;
+    private static final List<String> SMALL_LINES = List.of(
+            "first,text,2,draft",
+            "second,text,1",
+            "third,text,1,draft");
+    private static final List<String> LINES_WITHOUT_ACCESSES = List.of(
+            "report,text,5,draft,language=german",
+            "holiday,image,0,place=beach",
+            "theme,audio,8,genre=rock",
+            "letter,text,3,language=english,draft",
+            "notes,text,0,language=english");
+    //the access numbers around and above the numbers whose logarithms are looked up
+    private static final List<String> LINES_WITH_LARGE_ACCESS_NUMBERS = List.of(
+            "report,text,4095,draft,language=german",
+            "holiday,image,4096,place=beach",
+            "theme,audio,4097,genre=rock",
+            "letter,text,70000,language=english,draft",
+            "notes,text,1,language=english",
+            "trailer,video,2147483,place=city");
+    private static final int[] LOGARITHM_ARGUMENTS = {1, 2, 3, 4095, 4096, 4097, 70000, Integer.MAX_VALUE};
+
+    //qualified, because the paths of the directory tree are in the same package
+    @TempDir
+    java.nio.file.Path directory;
+
+    @Test
+    void entropyOfHandComputedTable() throws IOException {
+        //the probabilities are 1/2, 1/4 and 1/4, so the entropy is 1/2 + 1/4 * 2 + 1/4 * 2
+        SplitEvaluator splitEvaluator = evaluate(loadTable(SMALL_LINES, TableLayout.DENSE));
+        assertEquals(1.5, splitEvaluator.getEntropy(), TOLERANCE);
+        assertFalse(splitEvaluator.hasDocumentWithoutAccesses());
+    }
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void entropiesOfSmallTable(TableLayout tableLayout) throws IOException {
+        assertEntropiesAsDefined(loadTable(SMALL_LINES, tableLayout));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void entropiesWithDocumentsWithoutAccesses(TableLayout tableLayout) throws IOException {
+        DocumentTable documentTable = loadTable(LINES_WITHOUT_ACCESSES, tableLayout);
+        assertTrue(evaluate(documentTable).hasDocumentWithoutAccesses());
+        assertEntropiesAsDefined(documentTable);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void entropiesWithLargeAccessNumbers(TableLayout tableLayout) throws IOException {
+        assertEntropiesAsDefined(loadTable(LINES_WITH_LARGE_ACCESS_NUMBERS, tableLayout));
+    }
+
+    @Test
+    void logarithmsEqualTheComputedOnes() {
+        assertEquals(0, BinaryLogarithm.weighted(0));
+        for (int value : LOGARITHM_ARGUMENTS) {
+            double logarithm = Math.log(value) / Math.log(2);
+            assertEquals(logarithm, BinaryLogarithm.of(value));
+            assertEquals(value * logarithm, BinaryLogarithm.weighted(value));
+        }
+    }
+
+    private void assertEntropiesAsDefined(DocumentTable documentTable) {
+        SplitEvaluator splitEvaluator = evaluate(documentTable);
+        int[] allDocuments = IntStream.range(0, documentTable.getNumberOfDocuments()).toArray();
+        assertEquals(getEntropy(documentTable, allDocuments), splitEvaluator.getEntropy(), TOLERANCE);
+        for (int tagId = 0; tagId < documentTable.getNumberOfTags(); tagId++) {
+            assertEquals(getUncertainty(documentTable, tagId), splitEvaluator.getUncertainty(tagId), TOLERANCE);
+        }
+    }
+
+    private static SplitEvaluator evaluate(DocumentTable documentTable) {
+        int[] allTags = IntStream.range(0, documentTable.getNumberOfTags()).toArray();
+        int[] allDocuments = IntStream.range(0, documentTable.getNumberOfDocuments()).toArray();
+        SplitEvaluator splitEvaluator = new SplitEvaluator(documentTable, allTags);
+        splitEvaluator.evaluate(allDocuments, 0, allDocuments.length, false);
+        return splitEvaluator;
+    }
+
+    private static double getEntropy(DocumentTable documentTable, int[] ordinals) {
+        double accumulatedAccessNumber = 0;
+        for (int ordinal : ordinals) {
+            accumulatedAccessNumber += documentTable.getAccessNumber(ordinal);
+        }
+        double entropy = 0;
+        for (int ordinal : ordinals) {
+            double probability = documentTable.getAccessNumber(ordinal) / accumulatedAccessNumber;
+            if (probability > 0) {
+                entropy -= probability * Math.log(probability) / Math.log(2);
+            }
+        }
+        return entropy;
+    }
+
+    private static double getUncertainty(DocumentTable documentTable, int tagId) {
+        double accumulatedAccessNumber = 0;
+        for (int ordinal = 0; ordinal < documentTable.getNumberOfDocuments(); ordinal++) {
+            accumulatedAccessNumber += documentTable.getAccessNumber(ordinal);
+        }
+        double uncertainty = 0;
+        for (int valueId = 0; valueId < documentTable.getNumberOfValues(tagId); valueId++) {
+            int currentValueId = valueId;
+            int[] subset = IntStream.range(0, documentTable.getNumberOfDocuments())
+                    .filter(ordinal -> documentTable.getValueIdOfDocument(tagId, ordinal) == currentValueId)
+                    .toArray();
+            double accessNumberOfSubset = 0;
+            for (int ordinal : subset) {
+                accessNumberOfSubset += documentTable.getAccessNumber(ordinal);
+            }
+            if (accessNumberOfSubset > 0) {
+                uncertainty += accessNumberOfSubset / accumulatedAccessNumber * getEntropy(documentTable, subset);
+            }
+        }
+        return uncertainty;
+    }
+
+    private DocumentTable loadTable(List<String> lines, TableLayout tableLayout) throws IOException {
+        java.nio.file.Path file = directory.resolve("documents.txt");
+        Files.write(file, lines);
+        FilingFinesse model = new FilingFinesse();
+        model.setTableLayout(tableLayout);
+        new LoadCommand(EchoMode.NONE).execute(model, new String[] {file.toString()});
+        return model.getAllDocumentFiles().get(0).getDocumentTable();
+    }
+}
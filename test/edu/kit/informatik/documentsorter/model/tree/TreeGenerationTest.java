@@ -0,0 +1,92 @@
+package edu.kit.informatik.documentsorter.model.tree;
+
+import edu.kit.informatik.documentsorter.command.EchoMode;
+import edu.kit.informatik.documentsorter.command.LoadCommand;
+import edu.kit.informatik.documentsorter.model.DocumentTable;
+import edu.kit.informatik.documentsorter.model.FilingFinesse;
+import edu.kit.informatik.documentsorter.model.TableLayout;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This class tests that a directory tree generated in parallel is the same as one generated sequentially.
+ *
+ * @author uexnb
+ * @version 1.0
+ */
+class TreeGenerationTest {
+    private static final long SEED = 42;
+    private static final int NUMBER_OF_DOCUMENTS = 400;
+    private static final int NUMBER_OF_TAGS = 6;
+    private static final int NUMBER_OF_VALUES = 3;
+    private static final int MAXIMUM_ACCESS_NUMBER = 20;
+    private static final String[] TYPES = {"audio", "text", "video", "image", "program"};
+    private static final int PARALLELISM = 4;
+    private static final int FORK_THRESHOLD = 1;
+    private static final int PARALLEL_EVALUATION_THRESHOLD = 1;
+
+    //qualified, because the paths of the directory tree are in the same package
+    @TempDir
+    java.nio.file.Path directory;
+
+    @ParameterizedTest
+    @EnumSource(TableLayout.class)
+    void parallelTreeEqualsSequentialTree(TableLayout tableLayout) throws IOException {
+        DocumentTable documentTable = loadTable(tableLayout);
+        DirectoryTree sequentialTree = new DirectoryTree(createRoot(documentTable));
+        sequentialTree.generateTree();
+        TreeNode root = createRoot(documentTable);
+        root.setParallelEvaluationThreshold(PARALLEL_EVALUATION_THRESHOLD);
+        DirectoryTree parallelTree = new DirectoryTree(root);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(PARALLELISM);
+        try {
+            parallelTree.generateTree(forkJoinPool, FORK_THRESHOLD);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+        assertEquals(sequentialTree.getOutput(), parallelTree.getOutput());
+    }
+
+    private DocumentTable loadTable(TableLayout tableLayout) throws IOException {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>();
+        for (int ordinal = 0; ordinal < NUMBER_OF_DOCUMENTS; ordinal++) {
+            StringBuilder line = new StringBuilder("doc" + ordinal);
+            line.append(',').append(TYPES[random.nextInt(TYPES.length)]);
+            line.append(',').append(1 + random.nextInt(MAXIMUM_ACCESS_NUMBER));
+            for (int tag = 0; tag < NUMBER_OF_TAGS; tag++) {
+                //some tags are left undefined, some are set without a value
+                switch (random.nextInt(NUMBER_OF_VALUES + 2)) {
+                    case 0 -> { }
+                    case 1 -> line.append(",t").append(tag);
+                    default -> line.append(",v").append(tag).append('=').append(random.nextInt(NUMBER_OF_VALUES));
+                }
+            }
+            lines.add(line.toString());
+        }
+        java.nio.file.Path file = directory.resolve("documents.txt");
+        Files.write(file, lines);
+        FilingFinesse model = new FilingFinesse();
+        model.setTableLayout(tableLayout);
+        new LoadCommand(EchoMode.NONE).execute(model, new String[] {file.toString()});
+        return model.getAllDocumentFiles().get(0).getDocumentTable();
+    }
+
+    private static TreeNode createRoot(DocumentTable documentTable) {
+        int[] allTags = IntStream.range(0, documentTable.getNumberOfTags()).toArray();
+        int[] allDocuments = IntStream.range(0, documentTable.getNumberOfDocuments()).toArray();
+        return new TreeNode(documentTable, allTags, allDocuments, 0, allDocuments.length,
+                new Path("/", 0, 0, null));
+    }
+}